@@ -0,0 +1,170 @@
+package com.spring.restapi.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.spring.restapi.models.Employee;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * In-process read-through cache of detached employees keyed by id, with a secondary email → id index.
+ *
+ * Loads go through {@link Cache#get}, which holds the key's lock while the loader runs, so an
+ * invalidation racing with a load always wins. Writers evict once their transaction has completed,
+ * which means a read that starts after a write returns never sees the pre-write row.
+ *
+ * Alongside each entity it can hold the entity's JSON encoding ({@link EncodedEmployee}), so hot
+ * single-employee reads skip Jackson entirely. Both forms are evicted together.
+ */
+@Component
+public class EmployeeCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeCache.class);
+
+    private final Cache<Long, Employee> employeesById;
+    private final Cache<String, Long> idsByEmail;
+    private final Cache<Long, EncodedEmployee> encodedById;
+    private final ObjectWriter employeeWriter;
+    private final LongAdder invalidations = new LongAdder();
+
+    public EmployeeCache(@Value("${employee.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${employee.cache.ttl:PT10M}") Duration ttl,
+                         ObjectMapper objectMapper) {
+        this.employeesById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.encodedById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // Same mapper as the MVC message converters, so the cached bytes match what they would write
+        this.employeeWriter = objectMapper.writerFor(Employee.class);
+        logger.info("EMPLOYEE CACHE CONFIGURED - Maximum Size: {}, TTL: {}", maximumSize, ttl);
+    }
+
+    public Optional<Employee> getById(Long id, Function<Long, Optional<Employee>> loader) {
+        return Optional.ofNullable(employeesById.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    // Encoded under the key's lock from the cached entity; an eviction racing with the encoding waits for it
+    // and then removes the result, so stale bytes are never left behind
+    public Optional<EncodedEmployee> getEncodedById(Long id, Function<Long, Optional<Employee>> loader) {
+        return Optional.ofNullable(encodedById.get(id, key -> getById(key, loader).map(this::encode).orElse(null)));
+    }
+
+    // A miss only records the email → id mapping; the row itself is cached by the next id-based load,
+    // which keeps every insert into employeesById under the per-key lock
+    public Optional<Employee> getByEmail(String email, Function<Long, Optional<Employee>> idLoader,
+                                         Function<String, Optional<Employee>> emailLoader) {
+        Long id = idsByEmail.getIfPresent(email);
+        if (id != null) {
+            Optional<Employee> cached = getById(id, idLoader);
+            if (cached.isPresent() && email.equals(cached.get().getEmail())) {
+                return cached;
+            }
+            idsByEmail.invalidate(email);
+        }
+        Optional<Employee> loaded = emailLoader.apply(email);
+        loaded.ifPresent(employee -> idsByEmail.put(email, employee.getId()));
+        return loaded;
+    }
+
+    public void evict(Long id) {
+        evict(List.of(id));
+    }
+
+    public void evict(Collection<Long> ids) {
+        evictNow(ids);
+        // Evict again once the surrounding transaction finishes, so a load that read the old row
+        // while the write was still uncommitted cannot leave it behind in the cache
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(ids);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        invalidations.add(employeesById.estimatedSize());
+        employeesById.invalidateAll();
+        idsByEmail.invalidateAll();
+        encodedById.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    employeesById.invalidateAll();
+                    idsByEmail.invalidateAll();
+                    encodedById.invalidateAll();
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        CacheStats stats = employeesById.stats();
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("size", employeesById.estimatedSize());
+        statistics.put("emailIndexSize", idsByEmail.estimatedSize());
+        statistics.put("hits", stats.hitCount());
+        statistics.put("misses", stats.missCount());
+        statistics.put("hitRate", stats.hitRate());
+        statistics.put("evictions", stats.evictionCount());
+        statistics.put("invalidations", invalidations.sum());
+        statistics.put("averageLoadMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        CacheStats encodedStats = encodedById.stats();
+        statistics.put("encodedSize", encodedById.estimatedSize());
+        statistics.put("encodedHits", encodedStats.hitCount());
+        statistics.put("encodedMisses", encodedStats.missCount());
+        statistics.put("encodedHitRate", encodedStats.hitRate());
+        return statistics;
+    }
+
+    private void evictNow(Collection<Long> ids) {
+        for (Long id : ids) {
+            encodedById.invalidate(id);
+            Employee cached = employeesById.asMap().remove(id);
+            if (cached != null) {
+                invalidations.increment();
+                idsByEmail.invalidate(cached.getEmail());
+            }
+        }
+    }
+
+    private EncodedEmployee encode(Employee employee) {
+        try {
+            return new EncodedEmployee(employee.getId(), employee.getVersion(), employeeWriter.writeValueAsBytes(employee));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode employee " + employee.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.spring.restapi.cache;
+
+/**
+ * An employee as the UTF-8 JSON body of {@code GET /api/employees/{id}}, together with the
+ * version its ETag is built from. The bytes are shared between requests and must not be modified.
+ */
+public record EncodedEmployee(Long id, Long version, byte[] json) {
+}
@@ -0,0 +1,66 @@
+package com.spring.restapi.config;
+
+import com.spring.restapi.exception.AdmissionTimeoutException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps how many API requests run at once, so that with virtual threads the number of requests
+ * competing for JDBC connections stays at the connection pool size. Excess requests wait here
+ * (a parked virtual thread is cheap) instead of inside the pool, where they would time out
+ * with a 500; after {@code timeout} they get a 503 with Retry-After.
+ */
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlInterceptor.class);
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".PERMIT";
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final Duration timeout;
+
+    public AdmissionControlInterceptor(int maxConcurrent, Duration timeout) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.timeout = timeout;
+        logger.info("ADMISSION CONTROL CONFIGURED - Max Concurrent: {}, Timeout: {}", maxConcurrent, timeout);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            logger.warn("ADMISSION TIMEOUT - {} {} waited {} ms, {} requests in flight",
+                       request.getMethod(), request.getRequestURI(), timeout.toMillis(), maxConcurrent);
+            throw new AdmissionTimeoutException("Server is busy, retry later");
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,23 @@
+package com.spring.restapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Controls how much the employee endpoints log.
+ * SUMMARY (the default) logs one line per request with row counts and timings;
+ * DETAIL additionally logs one line per employee returned or saved.
+ */
+@Component
+@ConfigurationProperties(prefix = "employee.logging")
+public class LoggingProperties {
+
+    public enum Mode { SUMMARY, DETAIL }
+
+    private Mode mode = Mode.SUMMARY;
+
+    public Mode getMode() { return mode; }
+    public void setMode(Mode mode) { this.mode = mode; }
+
+    public boolean isDetail() { return mode == Mode.DETAIL; }
+}
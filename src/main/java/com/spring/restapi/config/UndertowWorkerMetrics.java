@@ -0,0 +1,58 @@
+package com.spring.restapi.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.boot.web.embedded.undertow.UndertowWebServer;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import org.xnio.management.XnioWorkerMXBean;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the Undertow XNIO worker pool as gauges. The worker only exists once the
+ * web server has started, so the gauges are registered from {@link WebServerInitializedEvent}.
+ * There is no busy-thread gauge: XNIO's default executor reports -1 for it.
+ */
+@Component
+public class UndertowWorkerMetrics implements ApplicationListener<WebServerInitializedEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(UndertowWorkerMetrics.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if (!(event.getWebServer() instanceof UndertowWebServer server) || server.getUndertow() == null) {
+            return;
+        }
+        XnioWorkerMXBean worker = server.getUndertow().getWorker().getMXBean();
+        gauge("undertow.worker.threads.current", "Worker threads currently in the pool", worker,
+              XnioWorkerMXBean::getWorkerPoolSize);
+        gauge("undertow.worker.threads.core", "Core size of the worker pool", worker,
+              XnioWorkerMXBean::getCoreWorkerPoolSize);
+        gauge("undertow.worker.threads.max", "Maximum size of the worker pool", worker,
+              XnioWorkerMXBean::getMaxWorkerPoolSize);
+        gauge("undertow.worker.queue.size", "Tasks waiting for a worker thread", worker,
+              XnioWorkerMXBean::getWorkerQueueSize);
+        gauge("undertow.io.threads", "XNIO I/O threads", worker,
+              XnioWorkerMXBean::getIoThreadCount);
+        logger.info("UNDERTOW WORKER METRICS REGISTERED - Worker: {}", worker.getName());
+    }
+
+    private void gauge(String name, String description, XnioWorkerMXBean worker,
+                       ToDoubleFunction<XnioWorkerMXBean> value) {
+        Gauge.builder(name, worker, value)
+             .description(description)
+             .tag("worker", worker.getName())
+             .register(meterRegistry);
+    }
+}
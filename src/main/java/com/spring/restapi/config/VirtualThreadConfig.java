@@ -0,0 +1,57 @@
+package com.spring.restapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual-thread request handling, enabled with {@code spring.threads.virtual.enabled=true}.
+ * Boot switches its own executors over but not Undertow's servlet dispatch, so servlet
+ * invocations are moved off the XNIO worker pool here. Since virtual threads no longer bound
+ * concurrency, {@link AdmissionControlInterceptor} limits API requests to the JDBC pool size.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig implements WebMvcConfigurer {
+
+    @Value("${employee.admission.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int maxConcurrent;
+
+    @Value("${employee.admission.timeout:PT5S}")
+    private Duration admissionTimeout;
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService servletVirtualThreadExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("undertow-vt-", 0).factory());
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> undertowVirtualThreads(ExecutorService servletVirtualThreadExecutor) {
+        return factory -> factory.addDeploymentInfoCustomizers(deploymentInfo -> deploymentInfo
+                .setExecutor(servletVirtualThreadExecutor)
+                .setAsyncExecutor(servletVirtualThreadExecutor));
+    }
+
+    @Bean
+    public AdmissionControlInterceptor admissionControlInterceptor() {
+        return new AdmissionControlInterceptor(maxConcurrent, admissionTimeout);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Reactive streams are long-lived and wait on the R2DBC pool, not on a JDBC connection
+        registry.addInterceptor(admissionControlInterceptor())
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/reactive/**");
+    }
+}
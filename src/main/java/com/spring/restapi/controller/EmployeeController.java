@@ -2,23 +2,54 @@ package com.spring.restapi.controller;
 
 
 import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeeIngestStatus;
+import com.spring.restapi.models.EmployeePage;
+import com.spring.restapi.models.EmployeePurgeStatus;
+import com.spring.restapi.models.EmployeeSnapshotInfo;
+import com.spring.restapi.models.EmployeeStatistics;
+import com.spring.restapi.models.EmployeeSummary;
+import com.spring.restapi.models.EmployeeUpsertResult;
+import com.spring.restapi.service.EmployeeExportService;
+import com.spring.restapi.service.EmployeeExportService.ExportFormat;
+import com.spring.restapi.service.EmployeeImportService;
+import com.spring.restapi.service.EmployeeImportService.ImportFormat;
+import com.spring.restapi.service.EmployeeIngestQueue;
+import com.spring.restapi.service.EmployeePurgeJob;
 import com.spring.restapi.service.EmployeeService;
+import com.spring.restapi.cache.EncodedEmployee;
 import com.spring.restapi.exception.EmployeeNotFoundException;
+import com.spring.restapi.index.EmployeeNameIndex;
+import com.spring.restapi.index.EmployeeSalaryIndex;
+import com.spring.restapi.snapshot.EmployeeSnapshotStore;
 import com.spring.restapi.exception.IllegalDepartmentException;
+import com.spring.restapi.exception.PreconditionFailedException;
+
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -29,6 +60,21 @@ public class EmployeeController {
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private EmployeeExportService employeeExportService;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeePurgeJob employeePurgeJob;
+
+    @Autowired
+    private EmployeeIngestQueue employeeIngestQueue;
+
+    @Autowired
+    private EmployeeSnapshotStore employeeSnapshotStore;
+
 
     @PostMapping
     public ResponseEntity<Employee> createEmployee(@Valid @RequestBody Employee employee) {
@@ -43,83 +89,98 @@ public class EmployeeController {
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .header("Location", "/api/employees/" + savedEmployee.getId())
+                .eTag(etag(savedEmployee))
                 .body(savedEmployee);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Employee> updateEmployee(@PathVariable Long id, @Valid @RequestBody Employee employeeDetails) {
+    public ResponseEntity<EmployeeSummary> updateEmployee(@PathVariable Long id, @Valid @RequestBody Employee employeeDetails,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         logger.info("UPDATE EMPLOYEE REQUEST - ID: {}, Name: {}, Department: {}, Gender: {}, Salary: {}", 
                    id, employeeDetails.getName(), employeeDetails.getDepartment(), 
                    employeeDetails.getGender(), employeeDetails.getSalary());
         
-        Employee updatedEmployee = employeeService.updateEmployee(id, employeeDetails);
+        EmployeeSummary updatedEmployee = employeeService.updateEmployee(id, employeeDetails, expectedVersion(ifMatch));
         
         logger.info("EMPLOYEE UPDATED - ID: {}, Name: {}, Department: {}, Gender: {}, Salary: {}", 
-                   id, updatedEmployee.getName(), updatedEmployee.getDepartment(), 
-                   updatedEmployee.getGender(), updatedEmployee.getSalary());
-        return ResponseEntity.ok(updatedEmployee);
+                   id, updatedEmployee.name(), updatedEmployee.department(), 
+                   updatedEmployee.gender(), updatedEmployee.salary());
+        return ResponseEntity.ok().eTag(etag(updatedEmployee.version())).body(updatedEmployee);
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Employee> partialUpdateEmployee(@PathVariable Long id, @RequestBody Map<String, Object> updates) {
+    public ResponseEntity<EmployeeSummary> partialUpdateEmployee(@PathVariable Long id, @RequestBody Map<String, Object> updates,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         logger.info("PARTIAL UPDATE EMPLOYEE REQUEST - ID: {}, Updates: {}", id, updates);
-        Employee updatedEmployee = employeeService.partialUpdateEmployee(id, updates);
+        EmployeeSummary updatedEmployee = employeeService.partialUpdateEmployee(id, updates, expectedVersion(ifMatch));
         
         logger.info("EMPLOYEE PARTIALLY UPDATED - ID: {}, Name: {}, Department: {}, Gender: {}, Salary: {}", 
-                   id, updatedEmployee.getName(), updatedEmployee.getDepartment(), 
-                   updatedEmployee.getGender(), updatedEmployee.getSalary());
-        return ResponseEntity.ok(updatedEmployee);
+                   id, updatedEmployee.name(), updatedEmployee.department(), 
+                   updatedEmployee.gender(), updatedEmployee.salary());
+        return ResponseEntity.ok().eTag(etag(updatedEmployee.version())).body(updatedEmployee);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteEmployeeById(@PathVariable Long id) {
-        // First get employee details before deleting
-        Employee employee = employeeService.getEmployeeById(id)
-                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
-        
-        logger.info("DELETE EMPLOYEE REQUEST - ID: {}, Name: {}, Department: {}, Gender: {}, Salary: {}", 
-                   id, employee.getName(), employee.getDepartment(), employee.getGender(), employee.getSalary());
-        
+        // No read first: the service deletes by id and reports a missing employee as 404
+        logger.info("DELETE EMPLOYEE REQUEST - ID: {}", id);
         employeeService.deleteEmployeeById(id);
-        
-        logger.info("EMPLOYEE DELETED - ID: {}, Name: {}, Department: {}", 
-                   id, employee.getName(), employee.getDepartment());
+        logger.info("EMPLOYEE DELETED - ID: {}", id);
         return ResponseEntity.ok("Employee with id " + id + " deleted successfully");
     }
 
     @GetMapping
-    public ResponseEntity<List<Employee>> getAllEmployees() {
-        logger.info("GET ALL EMPLOYEES REQUEST");
-        List<Employee> employees = employeeService.getAllEmployees();
+    public ResponseEntity<EmployeePage> getAllEmployees(
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        long started = System.nanoTime();
+        logger.info("GET ALL EMPLOYEES REQUEST - After: {}, Limit: {}", after, limit);
+        EmployeePage page = employeeService.getAllEmployees(after, limit);
         
-        // Log summary of all employees
-        logger.info("RETURNING {} EMPLOYEES:", employees.size());
-        for (Employee emp : employees) {
-            logger.info("  - ID: {}, Name: {}, Department: {}, Gender: {}, Salary: {}", 
-                       emp.getId(), emp.getName(), emp.getDepartment(), emp.getGender(), emp.getSalary());
+        // Per-row details are logged by the service when employee.logging.mode=DETAIL
+        if (request.checkNotModified(etag(page))) {
+            logger.info("EMPLOYEES NOT MODIFIED - {} ms", elapsedMillis(started));
+            return null;
         }
-        
-        return ResponseEntity.ok(employees);
+        logger.info("RETURNING {} EMPLOYEES, NEXT CURSOR: {} - {} ms", page.getSize(), page.getNextCursor(), elapsedMillis(started));
+        return ResponseEntity.ok(page);
     }
 
+    // The body is pre-encoded Employee JSON; without the schema springdoc would document a binary string
     @GetMapping("/{id}")
-    public ResponseEntity<Employee> getEmployeeById(@PathVariable Long id) {
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = Employee.class)))
+    public ResponseEntity<byte[]> getEmployeeById(@PathVariable Long id, WebRequest request) {
         logger.info("GET EMPLOYEE BY ID REQUEST - ID: {}", id);
-        Employee employee = employeeService.getEmployeeById(id)
+        // Conditional GET: compare against the version column alone and skip loading and serializing the row
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<Long> version = employeeService.getEmployeeVersion(id);
+            if (version.isPresent() && request.checkNotModified(etag(version.get()))) {
+                logger.info("EMPLOYEE NOT MODIFIED - ID: {}, Version: {}", id, version.get());
+                return null;
+            }
+        }
+        // Pre-encoded JSON from the cache, written as-is: no entity access and no ObjectMapper on a hit
+        EncodedEmployee employee = employeeService.getEncodedEmployeeById(id)
                 .orElseThrow(() -> {
                     logger.warn("EMPLOYEE NOT FOUND - ID: {}", id);
                     return new EmployeeNotFoundException("Employee not found with id: " + id);
                 });
-        
-        logger.info("EMPLOYEE FOUND - ID: {}, Name: {}, Department: {}, Gender: {}, Salary: {}", 
-                   employee.getId(), employee.getName(), employee.getDepartment(), 
-                   employee.getGender(), employee.getSalary());
-        return ResponseEntity.ok(employee);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag(employee.version()))
+                .body(employee.json());
     }
 
     @GetMapping("/department/{department}")
-    public ResponseEntity<List<Employee>> getEmployeesByDepartment(@PathVariable String department) {
-        logger.info("GET EMPLOYEES BY DEPARTMENT REQUEST - Department: {}", department);
+    public ResponseEntity<EmployeePage> getEmployeesByDepartment(
+            @PathVariable String department,
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        long started = System.nanoTime();
+        logger.info("GET EMPLOYEES BY DEPARTMENT REQUEST - Department: {}, After: {}, Limit: {}", department, after, limit);
         List<String> validDepartments = List.of("IT", "HR", "Finance");
 
         if (!validDepartments.contains(department)) {
@@ -127,48 +188,106 @@ public class EmployeeController {
             throw new IllegalDepartmentException("Department " + department + " is not allowed.");
         }
 
-        List<Employee> employees = employeeService.getEmployeesByDepartment(department);
-        
-        logger.info("RETURNING {} EMPLOYEES FROM DEPARTMENT {}:", employees.size(), department);
-        for (Employee emp : employees) {
-            logger.info("  - ID: {}, Name: {}, Gender: {}, Salary: {}", 
-                       emp.getId(), emp.getName(), emp.getGender(), emp.getSalary());
+        EmployeePage page = employeeService.getEmployeesByDepartment(department, after, limit);
+        if (request.checkNotModified(etag(page))) {
+            logger.info("EMPLOYEES FROM DEPARTMENT {} NOT MODIFIED - {} ms", department, elapsedMillis(started));
+            return null;
         }
         
-        return ResponseEntity.ok(employees);
+        logger.info("RETURNING {} EMPLOYEES FROM DEPARTMENT {}, NEXT CURSOR: {} - {} ms",
+                   page.getSize(), department, page.getNextCursor(), elapsedMillis(started));
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/department/{department}/count")
+    public ResponseEntity<Long> countEmployeesByDepartment(@PathVariable String department) {
+        logger.info("COUNT EMPLOYEES BY DEPARTMENT REQUEST - Department: {}", department);
+        checkOptionalDepartment(department);
+        return ResponseEntity.ok(employeeService.countByDepartment(department));
     }
 
     @GetMapping("/gender/{gender}")
-    public ResponseEntity<List<Employee>> getEmployeesByGender(@PathVariable String gender) {
-        logger.info("GET EMPLOYEES BY GENDER REQUEST - Gender: {}", gender);
-        List<Employee> employees = employeeService.getEmployeesByGender(gender);
-        
-        logger.info("RETURNING {} EMPLOYEES WITH GENDER {}:", employees.size(), gender);
-        for (Employee emp : employees) {
-            logger.info("  - ID: {}, Name: {}, Department: {}, Salary: {}", 
-                       emp.getId(), emp.getName(), emp.getDepartment(), emp.getSalary());
+    public ResponseEntity<EmployeePage> getEmployeesByGender(
+            @PathVariable String gender,
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        long started = System.nanoTime();
+        logger.info("GET EMPLOYEES BY GENDER REQUEST - Gender: {}, After: {}, Limit: {}", gender, after, limit);
+        EmployeePage page = employeeService.getEmployeesByGender(gender, after, limit);
+        if (request.checkNotModified(etag(page))) {
+            logger.info("EMPLOYEES WITH GENDER {} NOT MODIFIED - {} ms", gender, elapsedMillis(started));
+            return null;
         }
         
-        return ResponseEntity.ok(employees);
+        logger.info("RETURNING {} EMPLOYEES WITH GENDER {}, NEXT CURSOR: {} - {} ms",
+                   page.getSize(), gender, page.getNextCursor(), elapsedMillis(started));
+        return ResponseEntity.ok(page);
+    }
+
+    // Gender is free text on create and update, unlike department, so any value is a real filter and
+    // one no employee has counts 0
+    @GetMapping("/gender/{gender}/count")
+    public ResponseEntity<Long> countEmployeesByGender(@PathVariable String gender) {
+        logger.info("COUNT EMPLOYEES BY GENDER REQUEST - Gender: {}", gender);
+        return ResponseEntity.ok(employeeService.countByGender(gender));
     }
 
     @PostMapping("/bulk")
     public ResponseEntity<List<Employee>> saveAllEmployees(@RequestBody List<@Valid Employee> employees) {
+        long started = System.nanoTime();
         logger.info("BULK SAVE EMPLOYEES REQUEST - Count: {}", employees.size());
         
-        // Log details of all employees being saved
-        for (int i = 0; i < employees.size(); i++) {
-            Employee emp = employees.get(i);
-            logger.info("EMPLOYEE {} - Name: {}, Department: {}, Gender: {}, Salary: {}", 
-                       i + 1, emp.getName(), emp.getDepartment(), emp.getGender(), emp.getSalary());
-        }
-        
         List<Employee> savedEmployees = employeeService.saveAllEmployees(employees);
         
-        logger.info("BULK SAVE SUCCESSFUL - Total Employees Saved: {}", savedEmployees.size());
+        logger.info("BULK SAVE SUCCESSFUL - Total Employees Saved: {} - {} ms", savedEmployees.size(), elapsedMillis(started));
         return ResponseEntity.ok(savedEmployees);
     }
 
+    // Safe to replay: rows are matched on email, and identical rows are reported UNCHANGED and not written
+    @PostMapping("/upsert")
+    public ResponseEntity<List<EmployeeUpsertResult>> upsertEmployees(@RequestBody List<@Valid Employee> employees) {
+        long started = System.nanoTime();
+        logger.info("BULK UPSERT EMPLOYEES REQUEST - Count: {}", employees.size());
+
+        List<EmployeeUpsertResult> results = employeeService.upsertEmployees(employees);
+
+        logger.info("BULK UPSERT SUCCESSFUL - Total Employees: {} - {} ms", results.size(), elapsedMillis(started));
+        return ResponseEntity.ok(results);
+    }
+
+    // Write-behind variant of /upsert: 202 with a ticket once the rows are queued, 429 with Retry-After when they do not fit
+    @PostMapping("/ingest")
+    public ResponseEntity<EmployeeIngestStatus> ingestEmployees(@RequestBody List<@Valid Employee> employees) {
+        logger.info("INGEST EMPLOYEES REQUEST - Count: {}", employees.size());
+        if (employees.size() > employeeIngestQueue.getCapacity()) {
+            logger.warn("INGEST REQUEST LARGER THAN THE QUEUE - Count: {}, Capacity: {}", employees.size(), employeeIngestQueue.getCapacity());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        EmployeeIngestStatus status = employeeIngestQueue.submit(employees);
+        logger.info("INGEST QUEUED - Ticket: {}, Rows: {}, Queued Rows: {}", status.ticket(), status.rows(), employeeIngestQueue.getQueuedRows());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/employees/ingest/" + status.ticket()))
+                .body(status);
+    }
+
+    @GetMapping("/ingest/{ticket}")
+    public ResponseEntity<EmployeeIngestStatus> getIngestStatus(@PathVariable String ticket) {
+        return employeeIngestQueue.getStatus(ticket)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public void importEmployees(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ImportFormat format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? ImportFormat.CSV : ImportFormat.NDJSON;
+        logger.info("IMPORT EMPLOYEES REQUEST - Format: {}", format);
+        response.setContentType("application/x-ndjson");
+        
+        employeeImportService.importEmployees(format, request.getInputStream(), response.getOutputStream());
+    }
+
     @GetMapping("/count")
     public ResponseEntity<Integer> getEmployeeCount() {
         logger.info("GET EMPLOYEE COUNT REQUEST");
@@ -177,15 +296,50 @@ public class EmployeeController {
         return ResponseEntity.ok(count);
     }
 
+    @GetMapping("/export")
+    public void exportEmployees(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                HttpServletResponse response) throws IOException {
+        logger.info("EXPORT EMPLOYEES REQUEST - Format: {}", format);
+        boolean csv = format == ExportFormat.CSV;
+        response.setContentType(csv ? "text/csv;charset=UTF-8" : "application/x-ndjson");
+        response.setHeader("Content-Disposition", "attachment; filename=\"employees." + (csv ? "csv" : "ndjson") + "\"");
+        
+        long rows = employeeExportService.exportEmployees(format, response.getOutputStream());
+        logger.info("EXPORT FINISHED - Rows: {}", rows);
+    }
+
     @DeleteMapping("/all")
     public ResponseEntity<Void> deleteAllEmployees() {
         logger.info("DELETE ALL EMPLOYEES REQUEST");
-        int count = employeeService.getEmployeeCount(); // Get count before deletion
-        employeeService.deleteAllEmployees();
+        int count = employeeService.deleteAllEmployees();
         logger.info("ALL EMPLOYEES DELETED - Total Deleted: {}", count);
         return ResponseEntity.noContent().build();
     }
+
+    // Background variant of DELETE /all for large tables: deletes in batches, one transaction each
+    @PostMapping("/purge")
+    public ResponseEntity<EmployeePurgeStatus> startPurge() {
+        logger.info("PURGE ALL EMPLOYEES REQUEST");
+        EmployeePurgeStatus status = employeePurgeJob.start();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/employees/purge/" + status.id()))
+                .body(status);
+    }
+
+    @GetMapping("/purge/{jobId}")
+    public ResponseEntity<EmployeePurgeStatus> getPurgeStatus(@PathVariable String jobId) {
+        return employeePurgeJob.getStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
     
+    // Writes the whole table to the snapshot file now, replacing the previous snapshot
+    @PostMapping("/snapshot")
+    public ResponseEntity<EmployeeSnapshotInfo> snapshotEmployees() throws IOException {
+        logger.info("SNAPSHOT EMPLOYEES REQUEST");
+        return ResponseEntity.ok(employeeSnapshotStore.snapshot());
+    }
+
     @GetMapping("/search")
     public ResponseEntity<Employee> getEmployeeByEmail(@RequestParam("email") String email) {
         return employeeService.findByEmail(email)
@@ -193,22 +347,144 @@ public class EmployeeController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/search/name")
+    public List<EmployeeSummary> searchEmployeesByName(@RequestParam("q") String query,
+                                                       @RequestParam(defaultValue = "CONTAINS") EmployeeNameIndex.Mode mode,
+                                                       @RequestParam(required = false) Integer limit) {
+        logger.info("NAME SEARCH REQUEST - Query: '{}', Mode: {}, Limit: {}", query, mode, limit);
+        return employeeService.searchByName(query, mode, limit);
+    }
+
+    @GetMapping("/stats/department")
+    public List<EmployeeStatistics> getStatisticsByDepartment() {
+        return employeeService.getStatisticsByDepartment();
+    }
+
+    @GetMapping("/stats/gender")
+    public List<EmployeeStatistics> getStatisticsByGender() {
+        return employeeService.getStatisticsByGender();
+    }
+
+    @GetMapping("/stats/department-gender")
+    public List<EmployeeStatistics> getStatisticsByDepartmentAndGender() {
+        return employeeService.getStatisticsByDepartmentAndGender();
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        return ResponseEntity.ok(employeeService.getCacheStatistics());
+    }
+    
     @GetMapping("/department-gender")
-    public List<Employee> getEmployeesByDepartmentAndGender(
+    public EmployeePage getEmployeesByDepartmentAndGender(
             @RequestParam String department, 
-            @RequestParam String gender) {
-        return employeeService.findByDepartmentAndGender(department, gender);
+            @RequestParam String gender,
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        checkOptionalDepartment(department);
+        return notModifiedOrPage(employeeService.findByDepartmentAndGender(department, gender, after, limit), request);
+    }
+
+    @GetMapping("/department-gender/count")
+    public ResponseEntity<Long> countEmployeesByDepartmentAndGender(@RequestParam String department,
+                                                                    @RequestParam String gender) {
+        logger.info("COUNT EMPLOYEES BY DEPARTMENT AND GENDER REQUEST - Department: {}, Gender: {}", department, gender);
+        checkOptionalDepartment(department);
+        return ResponseEntity.ok(employeeService.countByDepartmentAndGender(department, gender));
     }
 
     @GetMapping("/salary-greater-than")
-    public List<Employee> getEmployeesBySalaryGreaterThan(@RequestParam Double minSalary) {
-        return employeeService.findBySalaryGreaterThan(minSalary);
+    public EmployeePage getEmployeesBySalaryGreaterThan(
+            @RequestParam Double minSalary,
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        return notModifiedOrPage(employeeService.findBySalaryGreaterThan(minSalary, after, limit), request);
     }
 
     @GetMapping("/salary-between")
-    public List<Employee> getEmployeesBySalaryBetween(
+    public EmployeePage getEmployeesBySalaryBetween(
             @RequestParam Double minSalary, 
-            @RequestParam Double maxSalary) {
-        return employeeService.findBySalaryBetween(minSalary, maxSalary);
+            @RequestParam Double maxSalary,
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        return notModifiedOrPage(employeeService.findBySalaryBetween(minSalary, maxSalary, after, limit), request);
+    }
+
+    @GetMapping("/salary-range")
+    public List<EmployeeSummary> getEmployeesBySalaryRange(
+            @RequestParam(required = false) Double minSalary,
+            @RequestParam(required = false) Double maxSalary,
+            @RequestParam(required = false) String department,
+            @RequestParam(defaultValue = "ASC") EmployeeSalaryIndex.Order order,
+            @RequestParam(required = false) Integer limit) {
+        logger.info("SALARY RANGE REQUEST - Min: {}, Max: {}, Department: {}, Order: {}, Limit: {}",
+                   minSalary, maxSalary, department, order, limit);
+        checkOptionalDepartment(department);
+        return employeeService.findBySalaryRange(minSalary, maxSalary, department, order, limit);
+    }
+
+    @GetMapping("/top-earners")
+    public List<EmployeeSummary> getTopEarners(
+            @RequestParam(required = false) String department,
+            @RequestParam(defaultValue = "10") Integer n) {
+        logger.info("TOP EARNERS REQUEST - Department: {}, N: {}", department, n);
+        checkOptionalDepartment(department);
+        return employeeService.getTopEarners(department, n);
+    }
+
+    private void checkOptionalDepartment(String department) {
+        if (department != null && !List.of("IT", "HR", "Finance").contains(department)) {
+            logger.error("INVALID DEPARTMENT - Department: {}", department);
+            throw new IllegalDepartmentException("Department " + department + " is not allowed.");
+        }
+    }
+
+    // null tells Spring the 304 set up by checkNotModified is the whole response
+    private EmployeePage notModifiedOrPage(EmployeePage page, WebRequest request) {
+        return request.checkNotModified(etag(page)) ? null : page;
+    }
+
+    private String etag(Employee employee) {
+        return etag(employee.getVersion());
+    }
+
+    private String etag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // A page's content is fully determined by its rows' ids and versions plus the cursor, so hash those.
+    // Max version and row count alone would miss an update to any row below the page's highest version.
+    private String etag(EmployeePage page) {
+        long hash = 17;
+        for (EmployeeSummary emp : page.getEmployees()) {
+            hash = 31 * hash + emp.id();
+            hash = 31 * hash + emp.version();
+        }
+        hash = 31 * hash + Objects.hashCode(page.getNextCursor());
+        hash = 31 * hash + page.getLimit();
+        return "\"" + page.getSize() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    // Only a single strong ETag or * is accepted; a weak or unparseable one can never match, so it fails the write
+    private Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/") || tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match must be a single strong ETag, got " + ifMatch);
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match " + ifMatch + " does not match the current version");
+        }
+    }
+
+    private long elapsedMillis(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
     }
-}
\ No newline at end of file
+}
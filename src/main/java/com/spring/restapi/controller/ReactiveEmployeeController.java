@@ -0,0 +1,94 @@
+package com.spring.restapi.controller;
+
+import com.spring.restapi.exception.EmployeeNotFoundException;
+import com.spring.restapi.exception.IllegalDepartmentException;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.repository.ReactiveEmployeeRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive variant of the read endpoints in {@link EmployeeController}. With
+ * {@code Accept: application/x-ndjson} list endpoints stream one employee per line with backpressure:
+ * the next row is only read from the database once the previous one has been written, and no thread
+ * is held while waiting for the client or the driver. Other Accept values collect the rows into a
+ * JSON array. Pass the id of the last row received as {@code ?after=} to resume an interrupted stream;
+ * {@code ?limit=} ends it after that many rows. Each open stream holds one pooled R2DBC connection.
+ */
+@RestController
+@RequestMapping("/api/reactive/employees")
+public class ReactiveEmployeeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeController.class);
+
+    @Autowired
+    private ReactiveEmployeeRepository reactiveEmployeeRepository;
+
+    @GetMapping("/{id}")
+    public Mono<Employee> getEmployeeById(@PathVariable Long id) {
+        logger.info("REACTIVE GET EMPLOYEE BY ID REQUEST - ID: {}", id);
+        return reactiveEmployeeRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    logger.warn("EMPLOYEE NOT FOUND - ID: {}", id);
+                    return new EmployeeNotFoundException("Employee not found with id: " + id);
+                }));
+    }
+
+    @GetMapping
+    public Flux<Employee> streamAllEmployees(@RequestParam(defaultValue = "0") Long after,
+                                              @RequestParam(required = false) Integer limit) {
+        logger.info("REACTIVE STREAM ALL EMPLOYEES REQUEST - After: {}, Limit: {}", after, limit);
+        return logCompletion(reactiveEmployeeRepository.streamAll(after), "ALL", limit);
+    }
+
+    @GetMapping("/department/{department}")
+    public Flux<Employee> streamEmployeesByDepartment(@PathVariable String department,
+                                                      @RequestParam(defaultValue = "0") Long after,
+                                                      @RequestParam(required = false) Integer limit) {
+        logger.info("REACTIVE STREAM EMPLOYEES BY DEPARTMENT REQUEST - Department: {}, After: {}, Limit: {}", department, after, limit);
+        if (!List.of("IT", "HR", "Finance").contains(department)) {
+            logger.error("INVALID DEPARTMENT - Department: {}", department);
+            throw new IllegalDepartmentException("Department " + department + " is not allowed.");
+        }
+        return logCompletion(reactiveEmployeeRepository.streamByDepartment(department, after), "DEPARTMENT " + department, limit);
+    }
+
+    @GetMapping("/gender/{gender}")
+    public Flux<Employee> streamEmployeesByGender(@PathVariable String gender,
+                                                  @RequestParam(defaultValue = "0") Long after,
+                                                  @RequestParam(required = false) Integer limit) {
+        logger.info("REACTIVE STREAM EMPLOYEES BY GENDER REQUEST - Gender: {}, After: {}, Limit: {}", gender, after, limit);
+        return logCompletion(reactiveEmployeeRepository.streamByGender(gender, after), "GENDER " + gender, limit);
+    }
+
+    @GetMapping("/salary-between")
+    public Flux<Employee> streamEmployeesBySalaryBetween(@RequestParam Double minSalary,
+                                                         @RequestParam Double maxSalary,
+                                                         @RequestParam(defaultValue = "0") Long after,
+                                                         @RequestParam(required = false) Integer limit) {
+        logger.info("REACTIVE STREAM EMPLOYEES BY SALARY REQUEST - Min: {}, Max: {}, After: {}, Limit: {}",
+                   minSalary, maxSalary, after, limit);
+        return logCompletion(reactiveEmployeeRepository.streamBySalaryBetween(minSalary, maxSalary, after),
+                "SALARY " + minSalary + "-" + maxSalary, limit);
+    }
+
+    // An optional limit ends the stream (and releases its connection) after that many rows.
+    // One summary line per stream, written when it ends (completed, failed or cancelled by the client)
+    private Flux<Employee> logCompletion(Flux<Employee> employees, String filter, Integer limit) {
+        long started = System.nanoTime();
+        long[] rows = new long[1];
+        return (limit != null && limit > 0 ? employees.take(limit, true) : employees)
+                .doOnNext(employee -> rows[0]++)
+                .doFinally(signal -> logger.info("REACTIVE STREAM {} FINISHED - {} EMPLOYEES, {} - {} ms",
+                        filter, rows[0], signal, (System.nanoTime() - started) / 1_000_000));
+    }
+}
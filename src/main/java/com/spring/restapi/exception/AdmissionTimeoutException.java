@@ -0,0 +1,8 @@
+package com.spring.restapi.exception;
+
+// Thrown when a request could not get a database admission permit in time
+public class AdmissionTimeoutException extends RuntimeException {
+    public AdmissionTimeoutException(String message) {
+        super(message);
+    }
+}
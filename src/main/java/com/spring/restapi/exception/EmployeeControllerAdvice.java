@@ -1,7 +1,10 @@
 package com.spring.restapi.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,6 +19,7 @@ import java.util.LinkedHashMap;
 @RestControllerAdvice
 public class EmployeeControllerAdvice {
 
+    // Errors are always JSON, also for reactive streams requested with Accept: application/x-ndjson
     @ExceptionHandler(EmployeeNotFoundException.class)
     public ResponseEntity<APIErrorResponse> handleNotFound(EmployeeNotFoundException ex) {
         APIErrorResponse apiError = new APIErrorResponse();
@@ -25,6 +29,7 @@ public class EmployeeControllerAdvice {
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .header("Error-Info", "employee not found")
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(apiError);
     }
 
@@ -37,8 +42,63 @@ public class EmployeeControllerAdvice {
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .header("Error-Info", "invalid department")
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(apiError);
     }
+
+    @ExceptionHandler(InvalidUpdateException.class)
+    public ResponseEntity<APIErrorResponse> handleInvalidUpdate(InvalidUpdateException ex) {
+        APIErrorResponse apiError = new APIErrorResponse();
+        apiError.setStatusCode(HttpStatus.BAD_REQUEST.value());
+        apiError.setMessage(ex.getMessage());
+        apiError.setDateTime(LocalDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .header("Error-Info", "invalid update")
+                .body(apiError);
+    }
+
+    @ExceptionHandler(AdmissionTimeoutException.class)
+    public ResponseEntity<APIErrorResponse> handleAdmissionTimeout(AdmissionTimeoutException ex) {
+        APIErrorResponse apiError = new APIErrorResponse();
+        apiError.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE.value());
+        apiError.setMessage(ex.getMessage());
+        apiError.setDateTime(LocalDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Error-Info", "server busy")
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(apiError);
+    }
+
+    // Backpressure from the write-behind queue: nothing was queued, the client retries the whole request
+    @ExceptionHandler(IngestQueueFullException.class)
+    public ResponseEntity<APIErrorResponse> handleIngestQueueFull(IngestQueueFullException ex) {
+        APIErrorResponse apiError = new APIErrorResponse();
+        apiError.setStatusCode(HttpStatus.TOO_MANY_REQUESTS.value());
+        apiError.setMessage(ex.getMessage());
+        apiError.setDateTime(LocalDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Error-Info", "ingest queue full")
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(apiError);
+    }
+
+    // Stale If-Match, or a concurrent update that won the race between our read and Hibernate's version check
+    @ExceptionHandler({PreconditionFailedException.class, ObjectOptimisticLockingFailureException.class})
+    public ResponseEntity<APIErrorResponse> handlePreconditionFailed(RuntimeException ex) {
+        APIErrorResponse apiError = new APIErrorResponse();
+        apiError.setStatusCode(HttpStatus.PRECONDITION_FAILED.value());
+        apiError.setMessage(ex instanceof PreconditionFailedException ? ex.getMessage()
+                : "Employee was modified concurrently, fetch it again and retry");
+        apiError.setDateTime(LocalDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .header("Error-Info", "version mismatch")
+                .body(apiError);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<APIErrorResponse> handleValidationException(MethodArgumentNotValidException ex) {
         Map<String, String> validationErrors = new HashMap<>();
@@ -0,0 +1,16 @@
+package com.spring.restapi.exception;
+
+// Thrown when the ingestion queue has no room for a request's rows; the client should retry after the given delay
+public class IngestQueueFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public IngestQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
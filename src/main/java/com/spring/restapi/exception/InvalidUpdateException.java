@@ -0,0 +1,8 @@
+package com.spring.restapi.exception;
+
+// Thrown when a PATCH body names a field that cannot be updated or gives it an unusable value
+public class InvalidUpdateException extends RuntimeException {
+    public InvalidUpdateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.spring.restapi.exception;
+
+// Thrown when an If-Match header does not match the employee's current version
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
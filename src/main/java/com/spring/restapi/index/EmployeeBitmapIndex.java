@@ -0,0 +1,128 @@
+package com.spring.restapi.index;
+
+import com.spring.restapi.models.EmployeeSummary;
+
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * One compressed (Roaring) bitmap per distinct department and per distinct gender, with the employee
+ * id as the bit position. Ids come from a sequence and are dense, which is the case Roaring stores
+ * most compactly. Combined filters are a bitmap AND, counts are cardinalities, and keyset pages walk
+ * the set bits after the cursor in id order, so none of them reads a row.
+ *
+ * Roaring bitmaps are not thread-safe, hence the read/write lock; writes hold it for a single bit flip.
+ */
+@Component
+public class EmployeeBitmapIndex implements EmployeeIndex {
+
+    private final Map<String, RoaringBitmap> byDepartment = new HashMap<>();
+    private final Map<String, RoaringBitmap> byGender = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void add(EmployeeSummary employee) {
+        int bit = bit(employee.id());
+        lock.writeLock().lock();
+        try {
+            byDepartment.computeIfAbsent(employee.department(), key -> new RoaringBitmap()).add(bit);
+            byGender.computeIfAbsent(employee.gender(), key -> new RoaringBitmap()).add(bit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(EmployeeSummary employee) {
+        int bit = bit(employee.id());
+        lock.writeLock().lock();
+        try {
+            removeBit(byDepartment, employee.department(), bit);
+            removeBit(byGender, employee.gender(), bit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            byDepartment.clear();
+            byGender.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // A null department or gender leaves that column unfiltered; at least one of them must be given
+    public long count(String department, String gender) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap departmentBits = department == null ? null : byDepartment.get(department);
+            RoaringBitmap genderBits = gender == null ? null : byGender.get(gender);
+            if (department != null && gender != null) {
+                return departmentBits == null || genderBits == null ? 0 : RoaringBitmap.andCardinality(departmentBits, genderBits);
+            }
+            RoaringBitmap bits = department != null ? departmentBits : genderBits;
+            return bits == null ? 0 : bits.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Ids greater than after, in ascending order, at most limit of them
+    public List<Long> page(String department, String gender, long after, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bits = matching(department, gender);
+            List<Long> ids = new ArrayList<>(Math.min(limit, 1_024));
+            if (bits == null || after >= Integer.MAX_VALUE) {
+                return ids;
+            }
+            PeekableIntIterator iterator = bits.getIntIterator();
+            iterator.advanceIfNeeded((int) Math.max(after + 1, 0));
+            while (iterator.hasNext() && ids.size() < limit) {
+                ids.add((long) iterator.next());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap matching(String department, String gender) {
+        RoaringBitmap departmentBits = department == null ? null : byDepartment.get(department);
+        RoaringBitmap genderBits = gender == null ? null : byGender.get(gender);
+        if (department != null && gender != null) {
+            return departmentBits == null || genderBits == null ? null : RoaringBitmap.and(departmentBits, genderBits);
+        }
+        return department != null ? departmentBits : genderBits;
+    }
+
+    private static void removeBit(Map<String, RoaringBitmap> bitmaps, String value, int bit) {
+        RoaringBitmap bits = bitmaps.get(value);
+        if (bits != null) {
+            bits.remove(bit);
+            if (bits.isEmpty()) {
+                bitmaps.remove(value);
+            }
+        }
+    }
+
+    // Bit positions are ints; the id sequence would need to pass two billion rows to overflow them
+    private static int bit(long id) {
+        if (id < 0 || id > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Employee id " + id + " does not fit the bitmap index");
+        }
+        return (int) id;
+    }
+}
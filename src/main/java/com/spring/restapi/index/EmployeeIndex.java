@@ -0,0 +1,17 @@
+package com.spring.restapi.index;
+
+import com.spring.restapi.models.EmployeeSummary;
+
+/**
+ * An in-memory secondary index over employees, fed by {@link EmployeeIndexes}. Writes arrive one at
+ * a time from a single writer; implementations only need to tolerate reads running concurrently.
+ */
+public interface EmployeeIndex {
+
+    void add(EmployeeSummary employee);
+
+    // Called with the row as it was added, before its replacement is added
+    void remove(EmployeeSummary employee);
+
+    void clear();
+}
@@ -0,0 +1,215 @@
+package com.spring.restapi.index;
+
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeeSummary;
+import com.spring.restapi.repository.EmployeeRepository;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the in-memory {@link EmployeeIndex} implementations and the rows they point at in step with
+ * the employees table. Loaded from the database once every singleton exists, which is after a snapshot
+ * restore and before the web server takes requests, then maintained by {@code EmployeeService} on
+ * every write. Changes are applied after the writing transaction commits,
+ * so a rolled-back write never shows up; a row that arrives with an older version than the one held
+ * (two commits whose callbacks ran out of order) is ignored. Deleted ids are kept as tombstones, so an
+ * update whose callback runs after the delete's cannot bring the row back; ids come from a sequence and
+ * are never reused, and a load re-admits any tombstoned id the table does hold. Deletes that commit
+ * while the load is running are remembered until it ends, so a batch read before the delete cannot
+ * bring the row back either.
+ *
+ * Writes that bypass {@code EmployeeService}, such as SQL run directly against the table, are not
+ * seen until the next restart.
+ */
+@Component
+public class EmployeeIndexes implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeIndexes.class);
+
+    private static final int LOAD_BATCH_SIZE = 1_000;
+
+    private final Map<Long, EmployeeSummary> rows = new ConcurrentHashMap<>();
+    private final List<EmployeeIndex> indexes;
+
+    // Every id removed or cleared since it was last loaded, guarded by this
+    private final Roaring64Bitmap tombstones = new Roaring64Bitmap();
+
+    // Only used while load() runs: ids deleted so far, and how many clears happened, guarded by this
+    private Set<Long> deletedDuringLoad;
+    private int clears;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    public EmployeeIndexes(List<EmployeeIndex> indexes) {
+        this.indexes = indexes;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    public void load() {
+        long started = System.nanoTime();
+        synchronized (this) {
+            deletedDuringLoad = new HashSet<>();
+        }
+        try {
+            long after = 0;
+            while (true) {
+                int clearsBeforeRead = currentClears();
+                List<EmployeeSummary> batch = employeeRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(LOAD_BATCH_SIZE));
+                if (!applyLoaded(batch, clearsBeforeRead)) {
+                    continue;
+                }
+                if (batch.size() < LOAD_BATCH_SIZE) {
+                    break;
+                }
+                after = batch.get(batch.size() - 1).id();
+            }
+        } finally {
+            synchronized (this) {
+                deletedDuringLoad = null;
+            }
+        }
+        logger.info("EMPLOYEE INDEXES LOADED - {} EMPLOYEES, {} INDEXES - {} ms",
+                   rows.size(), indexes.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void put(Employee employee) {
+        put(List.of(employee));
+    }
+
+    public void put(EmployeeSummary employee) {
+        afterCommit(() -> apply(employee));
+    }
+
+    public void put(Collection<Employee> employees) {
+        List<EmployeeSummary> summaries = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            summaries.add(summarize(employee));
+        }
+        afterCommit(() -> summaries.forEach(this::apply));
+    }
+
+    public void remove(Long id) {
+        afterCommit(() -> applyRemove(id));
+    }
+
+    public void remove(Collection<Long> ids) {
+        afterCommit(() -> ids.forEach(this::applyRemove));
+    }
+
+    public void clear() {
+        afterCommit(this::applyClear);
+    }
+
+    public Optional<EmployeeSummary> get(long id) {
+        return Optional.ofNullable(rows.get(id));
+    }
+
+    // Ids removed since the index returned them are skipped
+    public List<EmployeeSummary> resolve(Collection<Long> ids) {
+        List<EmployeeSummary> resolved = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            EmployeeSummary row = rows.get(id);
+            if (row != null) {
+                resolved.add(row);
+            }
+        }
+        return resolved;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    private synchronized void apply(EmployeeSummary employee) {
+        if (tombstones.contains(employee.id())) {
+            return;
+        }
+        EmployeeSummary previous = rows.get(employee.id());
+        if (previous != null) {
+            if (previous.version() > employee.version()) {
+                return;
+            }
+            indexes.forEach(index -> index.remove(previous));
+        }
+        rows.put(employee.id(), employee);
+        indexes.forEach(index -> index.add(employee));
+    }
+
+    // A batch that may have been read before a clear committed is read again; rows deleted since are skipped.
+    // Any other row is in the table, so an older tombstone for its id no longer applies.
+    private synchronized boolean applyLoaded(List<EmployeeSummary> batch, int clearsBeforeRead) {
+        if (clears != clearsBeforeRead) {
+            return false;
+        }
+        for (EmployeeSummary employee : batch) {
+            if (!deletedDuringLoad.contains(employee.id())) {
+                tombstones.removeLong(employee.id());
+                apply(employee);
+            }
+        }
+        return true;
+    }
+
+    private synchronized int currentClears() {
+        return clears;
+    }
+
+    private synchronized void applyRemove(Long id) {
+        if (deletedDuringLoad != null) {
+            deletedDuringLoad.add(id);
+        }
+        tombstones.addLong(id);
+        EmployeeSummary previous = rows.remove(id);
+        if (previous != null) {
+            indexes.forEach(index -> index.remove(previous));
+        }
+    }
+
+    private synchronized void applyClear() {
+        clears++;
+        rows.keySet().forEach(tombstones::addLong);
+        rows.clear();
+        indexes.forEach(EmployeeIndex::clear);
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private static EmployeeSummary summarize(Employee employee) {
+        return new EmployeeSummary(employee.getId(), employee.getName(), employee.getEmail(), employee.getSalary(),
+                employee.getDepartment(), employee.getGender(), employee.getVersion() == null ? 0 : employee.getVersion());
+    }
+}
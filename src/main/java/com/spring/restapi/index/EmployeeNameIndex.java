@@ -0,0 +1,169 @@
+package com.spring.restapi.index;
+
+import com.spring.restapi.models.EmployeeSummary;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trigram inverted index over employee names for substring and word-prefix search.
+ *
+ * Names are lower-cased, whitespace-collapsed and given a leading space, so {@code "Ana Lopez"}
+ * yields {@code " an", "ana", "na ", "a l", " lo", "lop", ...}; a word-prefix query {@code "lo"}
+ * becomes the trigram {@code " lo"}. A query is answered by taking the shortest posting list among
+ * its trigrams and checking each candidate's name, so trigram matches that are not contiguous in
+ * the name never reach the result. Queries with fewer than three characters (after padding) have
+ * no trigram and check every name instead.
+ *
+ * Matches are ranked exact name, then name prefix, then word prefix, then any other substring;
+ * within a rank shorter names come first, then lower ids.
+ */
+@Component
+public class EmployeeNameIndex implements EmployeeIndex {
+
+    public enum Mode { PREFIX, CONTAINS }
+
+    private static final int GRAM = 3;
+
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::rank)
+            .thenComparingInt(Match::length)
+            .thenComparingLong(Match::id);
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(EmployeeSummary employee) {
+        String name = normalize(employee.name());
+        names.put(employee.id(), name);
+        for (String gram : grams(" " + name)) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(employee.id());
+        }
+    }
+
+    @Override
+    public void remove(EmployeeSummary employee) {
+        String name = names.remove(employee.id());
+        if (name == null) {
+            return;
+        }
+        for (String gram : grams(" " + name)) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(employee.id());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+        names.clear();
+    }
+
+    // Ids of the best-ranked matches, best first
+    public List<Long> search(String query, Mode mode, int limit) {
+        String needle = normalize(query);
+        if (needle.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String wordPrefix = " " + needle;
+        // Keep the worst of the best "limit" matches on top so it can be replaced cheaply
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Long id : candidates(mode == Mode.PREFIX ? wordPrefix : needle)) {
+            String name = names.get(id);
+            if (name == null) {
+                continue;
+            }
+            int rank = rank(name, needle, wordPrefix);
+            if (rank < 0 || (mode == Mode.PREFIX && rank > 2)) {
+                continue;
+            }
+            if (best.size() == limit && !ranksAbove(rank, name.length(), id, best.peek())) {
+                continue;
+            }
+            best.offer(new Match(id, rank, name.length()));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(RANKING);
+        List<Long> ids = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            ids.add(match.id());
+        }
+        return ids;
+    }
+
+    public int getTrigramCount() {
+        return postings.size();
+    }
+
+    private Collection<Long> candidates(String key) {
+        List<String> grams = grams(key);
+        if (grams.isEmpty()) {
+            return names.keySet();
+        }
+        Set<Long> shortest = null;
+        for (String gram : grams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            if (shortest == null || ids.size() < shortest.size()) {
+                shortest = ids;
+            }
+        }
+        return shortest;
+    }
+
+    // 0 exact, 1 name prefix, 2 word prefix, 3 substring, -1 no match
+    private static int rank(String name, String needle, String wordPrefix) {
+        if (name.equals(needle)) {
+            return 0;
+        }
+        if (name.startsWith(needle)) {
+            return 1;
+        }
+        if (name.contains(wordPrefix)) {
+            return 2;
+        }
+        return name.contains(needle) ? 3 : -1;
+    }
+
+    // Same order as RANKING, without allocating a Match for candidates that would be dropped anyway
+    private static boolean ranksAbove(int rank, int length, long id, Match worst) {
+        if (rank != worst.rank()) {
+            return rank < worst.rank();
+        }
+        if (length != worst.length()) {
+            return length < worst.length();
+        }
+        return id < worst.id();
+    }
+
+    private static List<String> grams(String text) {
+        List<String> grams = new ArrayList<>(Math.max(0, text.length() - GRAM + 1));
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Match(long id, int rank, int length) {
+    }
+}
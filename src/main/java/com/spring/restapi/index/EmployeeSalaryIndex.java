@@ -0,0 +1,99 @@
+package com.spring.restapi.index;
+
+import com.spring.restapi.models.EmployeeSummary;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Employees ordered by salary, as (salary, id) entries in concurrent skip lists: one over everybody
+ * and one per department. A range or top-N query seeks to its first entry in O(log n) and then walks
+ * only the k entries it returns. Ties on salary are broken by id, so results are stable between calls.
+ */
+@Component
+public class EmployeeSalaryIndex implements EmployeeIndex {
+
+    public enum Order { ASC, DESC }
+
+    private static final Comparator<Entry> BY_SALARY = Comparator.comparingDouble(Entry::salary)
+            .thenComparingLong(Entry::id);
+
+    private final NavigableSet<Entry> all = new ConcurrentSkipListSet<>(BY_SALARY);
+    private final Map<String, NavigableSet<Entry>> byDepartment = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(EmployeeSummary employee) {
+        Entry entry = new Entry(employee.salary(), employee.id());
+        all.add(entry);
+        if (employee.department() != null) {
+            byDepartment.computeIfAbsent(employee.department(), key -> new ConcurrentSkipListSet<>(BY_SALARY)).add(entry);
+        }
+    }
+
+    @Override
+    public void remove(EmployeeSummary employee) {
+        Entry entry = new Entry(employee.salary(), employee.id());
+        all.remove(entry);
+        if (employee.department() != null) {
+            NavigableSet<Entry> department = byDepartment.get(employee.department());
+            if (department != null) {
+                department.remove(entry);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        all.clear();
+        byDepartment.clear();
+    }
+
+    // Ids with minSalary <= salary <= maxSalary (either bound may be null), in salary order, at most limit of them
+    public List<Long> range(Double minSalary, Double maxSalary, String department, Order order, int limit) {
+        NavigableSet<Entry> entries = entries(department);
+        if (minSalary != null && maxSalary != null) {
+            if (minSalary > maxSalary) {
+                return List.of();
+            }
+            entries = entries.subSet(new Entry(minSalary, Long.MIN_VALUE), true, new Entry(maxSalary, Long.MAX_VALUE), true);
+        } else if (minSalary != null) {
+            entries = entries.tailSet(new Entry(minSalary, Long.MIN_VALUE), true);
+        } else if (maxSalary != null) {
+            entries = entries.headSet(new Entry(maxSalary, Long.MAX_VALUE), true);
+        }
+        return take(order == Order.DESC ? entries.descendingSet() : entries, limit);
+    }
+
+    public List<Long> top(String department, int n) {
+        return take(entries(department).descendingSet(), n);
+    }
+
+    private NavigableSet<Entry> entries(String department) {
+        if (department == null) {
+            return all;
+        }
+        NavigableSet<Entry> entries = byDepartment.get(department);
+        return entries == null ? new ConcurrentSkipListSet<>(BY_SALARY) : entries;
+    }
+
+    private static List<Long> take(NavigableSet<Entry> entries, int limit) {
+        List<Long> ids = new ArrayList<>(Math.min(limit, 1_024));
+        for (Entry entry : entries) {
+            if (ids.size() >= limit) {
+                break;
+            }
+            ids.add(entry.id());
+        }
+        return ids;
+    }
+
+    private record Entry(double salary, long id) {
+    }
+}
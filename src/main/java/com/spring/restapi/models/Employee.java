@@ -5,10 +5,20 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 
 @Entity
-@Table(name = "employees")
+// Department and gender listings and counts, and top earners, are served from the in-memory indexes.
+// These back the SQL that still filters: the reactive department and gender streams are keyset queries
+// ("filter and id > ? order by id"), so their indexes end in ID and the seek and the ordering need no sort.
+// The salary range listings filter on a range, which a trailing ID cannot help order, so salary is indexed alone.
+@Table(name = "employees", indexes = {
+        @Index(name = "IDX_EMPLOYEES_DEPARTMENT_ID", columnList = "DEPARTMENT, ID"),
+        @Index(name = "IDX_EMPLOYEES_GENDER_ID", columnList = "GENDER, ID"),
+        @Index(name = "IDX_EMPLOYEES_SALARY", columnList = "SALARY")
+})
 public class Employee {
+    // Sequence ids (allocated 50 at a time) let Hibernate batch inserts; IDENTITY forces one INSERT per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+    @SequenceGenerator(name = "employee_seq", sequenceName = "EMPLOYEE_SEQ", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Name is mandatory")
@@ -48,6 +58,17 @@ public class Employee {
     @Column(name = "TAX")
     private Double tax;
 
+    // Tax rule version the stored bonus/PF/tax were computed under
+    @JsonIgnore
+    @Column(name = "TAX_RULE_VERSION")
+    private Integer taxRuleVersion;
+
+    // Bumped by Hibernate on every update; the ETag of GET /{id} and the If-Match check on PUT/PATCH use it
+    @JsonIgnore
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
     public Employee() {}
 
     public Employee(String name, String email, Double salary, String department, String gender) {
@@ -85,4 +106,10 @@ public class Employee {
 
     public Double getTax() { return tax; }
     public void setTax(Double tax) { this.tax = tax; }
+
+    public Integer getTaxRuleVersion() { return taxRuleVersion; }
+    public void setTaxRuleVersion(Integer taxRuleVersion) { this.taxRuleVersion = taxRuleVersion; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
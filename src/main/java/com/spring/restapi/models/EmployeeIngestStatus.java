@@ -0,0 +1,15 @@
+package com.spring.restapi.models;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * State of a ticket returned by {@code POST /api/employees/ingest}. {@code written} counts the
+ * ticket's rows already committed; {@code results} holds one upsert outcome per row, in request
+ * order, once the ticket is COMPLETED. A FAILED ticket keeps the rows committed before the error.
+ */
+public record EmployeeIngestStatus(String ticket, State state, int rows, int written, Instant acceptedAt,
+                                   Instant finishedAt, List<EmployeeUpsertResult> results, String error) {
+
+    public enum State { QUEUED, COMPLETED, FAILED }
+}
@@ -0,0 +1,25 @@
+package com.spring.restapi.models;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated employee listing.
+ * Pass {@code nextCursor} back as {@code ?after=} to fetch the following page;
+ * it is {@code null} once the last page has been reached.
+ */
+public class EmployeePage {
+    private final List<EmployeeSummary> employees;
+    private final Long nextCursor;
+    private final int limit;
+
+    public EmployeePage(List<EmployeeSummary> employees, Long nextCursor, int limit) {
+        this.employees = employees;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    public List<EmployeeSummary> getEmployees() { return employees; }
+    public Long getNextCursor() { return nextCursor; }
+    public int getLimit() { return limit; }
+    public int getSize() { return employees.size(); }
+}
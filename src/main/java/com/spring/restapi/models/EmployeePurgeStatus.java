@@ -0,0 +1,14 @@
+package com.spring.restapi.models;
+
+import java.time.Instant;
+
+/**
+ * Progress of an asynchronous purge started with {@code POST /api/employees/purge}.
+ * {@code deleted} grows by one batch per committed transaction; {@code error} is set only when
+ * the state is FAILED, in which case the rows deleted so far stay deleted.
+ */
+public record EmployeePurgeStatus(String id, State state, long deleted, int batches, Instant startedAt,
+                                  Instant finishedAt, String error) {
+
+    public enum State { RUNNING, COMPLETED, FAILED }
+}
@@ -0,0 +1,8 @@
+package com.spring.restapi.models;
+
+/**
+ * Result of writing or restoring an employee snapshot: where the file is, how many rows and bytes
+ * it holds, and how long the operation took.
+ */
+public record EmployeeSnapshotInfo(String file, long rows, long bytes, long millis, long rowsPerSecond) {
+}
@@ -0,0 +1,47 @@
+package com.spring.restapi.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Headcount and payroll totals for one group of employees, produced by a GROUP BY query.
+ * Only the grouping columns are set; the other one is {@code null} and left out of the JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeStatistics {
+    private final String department;
+    private final String gender;
+    private final long headcount;
+    private final Double totalSalary;
+    private final Double averageSalary;
+    private final Double minSalary;
+    private final Double maxSalary;
+    private final Double totalBonus;
+    private final Double totalPf;
+    private final Double totalTax;
+
+    public EmployeeStatistics(String department, String gender, Long headcount,
+                              Double totalSalary, Double averageSalary, Double minSalary, Double maxSalary,
+                              Double totalBonus, Double totalPf, Double totalTax) {
+        this.department = department;
+        this.gender = gender;
+        this.headcount = headcount;
+        this.totalSalary = totalSalary;
+        this.averageSalary = averageSalary;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.totalBonus = totalBonus;
+        this.totalPf = totalPf;
+        this.totalTax = totalTax;
+    }
+
+    public String getDepartment() { return department; }
+    public String getGender() { return gender; }
+    public long getHeadcount() { return headcount; }
+    public Double getTotalSalary() { return totalSalary; }
+    public Double getAverageSalary() { return averageSalary; }
+    public Double getMinSalary() { return minSalary; }
+    public Double getMaxSalary() { return maxSalary; }
+    public Double getTotalBonus() { return totalBonus; }
+    public Double getTotalPf() { return totalPf; }
+    public Double getTotalTax() { return totalTax; }
+}
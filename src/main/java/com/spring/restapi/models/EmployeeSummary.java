@@ -0,0 +1,13 @@
+package com.spring.restapi.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Read-only row for list endpoints: only the columns the JSON response shows, selected straight
+ * into an immutable record. Unlike {@link Employee} it is never managed by the persistence context,
+ * so listing skips the dirty-checking snapshot and never loads the payroll columns. The version is
+ * only used to compute the page's ETag and is not part of the JSON.
+ */
+public record EmployeeSummary(long id, String name, String email, double salary, String department, String gender,
+                              @JsonIgnore long version) {
+}
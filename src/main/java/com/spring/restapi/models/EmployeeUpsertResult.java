@@ -0,0 +1,10 @@
+package com.spring.restapi.models;
+
+/**
+ * Outcome of one row of {@code POST /api/employees/upsert}, in request order. UNCHANGED means a row
+ * with that email already had the same name, salary, department and gender and was not written.
+ */
+public record EmployeeUpsertResult(String email, long id, Status status) {
+
+    public enum Status { INSERTED, UPDATED, UNCHANGED }
+}
@@ -1,21 +1,92 @@
 package com.spring.restapi.repository;
 
 import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeeStatistics;
+import com.spring.restapi.models.EmployeeSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
-    List<Employee> findByDepartment(String department);
-    List<Employee> findByGender(String gender);
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
     Optional<Employee> findByEmail(String email);
- 
-    List<Employee> findByDepartmentAndGender(String department, String gender);
-    
-    List<Employee> findBySalaryGreaterThan(Double minSalary);
-    
-    List<Employee> findBySalaryBetween(Double minSalary, Double maxSalary);
-}
\ No newline at end of file
+
+    // Current id and version of rows an upsert left unchanged, one query per batch
+    List<EmployeeSummary> findByEmailIn(Collection<String> emails);
+
+    // Lets a conditional GET answer 304 without loading the row
+    @Query("select e.version from Employee e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Keyset (seek) queries: every listing resumes after the last id seen instead of using OFFSET.
+    // They select into EmployeeSummary, so only the listed columns are read and no entity is managed.
+    // Department and gender listings are served by EmployeeBitmapIndex instead.
+    List<EmployeeSummary> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+
+    // Left alone, H2 walks the primary key for "order by id" plus a limit and tests salary row by row,
+    // which reads most of the table for a narrow range; USE INDEX keeps these on the salary index
+    @Query(value = "select id, name, email, salary, department, gender, version from employees use index (IDX_EMPLOYEES_SALARY) " +
+                   "where salary > :minSalary and id > :after order by id", nativeQuery = true)
+    List<EmployeeSummary> findBySalaryGreaterThanAndIdGreaterThanOrderByIdAsc(@Param("minSalary") Double minSalary, @Param("after") Long after, Limit limit);
+
+    @Query(value = "select id, name, email, salary, department, gender, version from employees use index (IDX_EMPLOYEES_SALARY) " +
+                   "where salary between :minSalary and :maxSalary and id > :after order by id", nativeQuery = true)
+    List<EmployeeSummary> findBySalaryBetweenAndIdGreaterThanOrderByIdAsc(@Param("minSalary") Double minSalary, @Param("maxSalary") Double maxSalary, @Param("after") Long after, Limit limit);
+
+    // Forward-only cursor for exports; must be consumed inside a transaction and closed by the caller
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Employee e order by e.id")
+    Stream<Employee> streamAllOrderedById();
+
+    // Rows whose stored deductions were computed under a different tax rule version
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select e from Employee e where (e.taxRuleVersion is null or e.taxRuleVersion <> :version) " +
+           "and e.id > :after order by e.id")
+    List<Employee> findStalePayroll(@Param("version") int version, @Param("after") Long after, Limit limit);
+
+    // Set-based: one statement whatever the table size, and the number of rows it removed
+    @Modifying
+    @Query("delete from Employee e")
+    int deleteAllRows();
+
+    // One DELETE by primary key; unlike deleteById it does not load the entity first
+    @Modifying
+    @Query("delete from Employee e where e.id = :id")
+    int deleteEmployeeById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Employee e set e.bonus = :bonus, e.pf = :pf, e.tax = :tax, e.taxRuleVersion = :version " +
+           "where e.id = :id and e.salary = :salary")
+    int updatePayroll(@Param("id") Long id, @Param("salary") Double salary, @Param("bonus") Double bonus,
+                      @Param("pf") Double pf, @Param("tax") Double tax, @Param("version") Integer version);
+
+    // Aggregates are computed by the database; one row per group comes back, never the employees themselves
+    @Query("select new com.spring.restapi.models.EmployeeStatistics(e.department, cast(null as String), count(e), " +
+           "sum(e.salary), avg(e.salary), min(e.salary), max(e.salary), sum(e.bonus), sum(e.pf), sum(e.tax)) " +
+           "from Employee e group by e.department order by e.department")
+    List<EmployeeStatistics> aggregateByDepartment();
+
+    @Query("select new com.spring.restapi.models.EmployeeStatistics(cast(null as String), e.gender, count(e), " +
+           "sum(e.salary), avg(e.salary), min(e.salary), max(e.salary), sum(e.bonus), sum(e.pf), sum(e.tax)) " +
+           "from Employee e group by e.gender order by e.gender")
+    List<EmployeeStatistics> aggregateByGender();
+
+    @Query("select new com.spring.restapi.models.EmployeeStatistics(e.department, e.gender, count(e), " +
+           "sum(e.salary), avg(e.salary), min(e.salary), max(e.salary), sum(e.bonus), sum(e.pf), sum(e.tax)) " +
+           "from Employee e group by e.department, e.gender order by e.department, e.gender")
+    List<EmployeeStatistics> aggregateByDepartmentAndGender();
+}
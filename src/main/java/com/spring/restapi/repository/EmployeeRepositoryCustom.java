@@ -0,0 +1,38 @@
+package com.spring.restapi.repository;
+
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeeSummary;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Write statements Spring Data cannot derive: an UPDATE whose SET list depends on the request,
+ * a bounded DELETE that reports which rows it removed, and an upsert keyed on the email.
+ */
+public interface EmployeeRepositoryCustom {
+
+    // Columns a caller may set; the email is the row's natural key and is never rewritten here
+    enum Column {
+        NAME, SALARY, DEPARTMENT, GENDER, BONUS, PF, TAX, TAX_RULE_VERSION
+    }
+
+    /**
+     * Sets only the given columns of one row and bumps its version, in a single statement that also
+     * returns the row as written. Empty if no row has that id or, when expectedVersion is not null,
+     * if the row is at a different version.
+     */
+    Optional<EmployeeSummary> updateColumns(Long id, Map<Column, Object> values, Long expectedVersion);
+
+    // Deletes up to limit rows with the lowest ids in one statement and returns the ids it deleted
+    List<Long> deleteFirst(int limit);
+
+    /**
+     * Upserts the given employees by email in a single MERGE: new emails are inserted at version 0,
+     * rows whose name, salary, department or gender differ are overwritten and get the next version,
+     * identical rows are left alone. Deductions are written as given. Returns the rows that were
+     * written, so an email missing from the result was unchanged. Emails must be distinct.
+     */
+    List<EmployeeSummary> mergeByEmail(List<Employee> employees);
+}
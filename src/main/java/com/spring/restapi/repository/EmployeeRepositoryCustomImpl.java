@@ -0,0 +1,117 @@
+package com.spring.restapi.repository;
+
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeeSummary;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    private static final String MERGE_COLUMNS = "id, name, email, salary, department, gender, bonus, pf, tax, tax_rule_version";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // H2's FINAL TABLE wraps the UPDATE so the new row values come back from the same statement
+    @Override
+    public Optional<EmployeeSummary> updateColumns(Long id, Map<Column, Object> values, Long expectedVersion) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("No columns to update for employee " + id);
+        }
+        StringBuilder sql = new StringBuilder("select id, name, email, salary, department, gender, version "
+                + "from final table (update employees set ");
+        for (Column column : values.keySet()) {
+            String name = column.name().toLowerCase(Locale.ROOT);
+            sql.append(name).append(" = :").append(name).append(", ");
+        }
+        sql.append("version = version + 1 where id = :id");
+        if (expectedVersion != null) {
+            sql.append(" and version = :expectedVersion");
+        }
+        sql.append(')');
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        values.forEach((column, value) -> query.setParameter(column.name().toLowerCase(Locale.ROOT), value));
+        query.setParameter("id", id);
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+        List<?> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toSummary((Object[]) rows.get(0)));
+    }
+
+    // OLD TABLE returns the deleted rows, so callers can evict exactly those ids without selecting them first
+    @Override
+    public List<Long> deleteFirst(int limit) {
+        List<?> ids = entityManager.createNativeQuery("select id from old table (delete from employees where id in "
+                        + "(select id from employees order by id fetch first :limit rows only))")
+                .setParameter("limit", limit)
+                .getResultList();
+        return ids.stream().map(id -> ((Number) id).longValue()).toList();
+    }
+
+    // Every source row carries an id from the entity's own generator, so inserts share the sequence
+    // (and its in-memory pooled-lo block) with persist(); rows that match an email simply discard theirs
+    @Override
+    public List<EmployeeSummary> mergeByEmail(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return List.of();
+        }
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator ids = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Employee.class).getGenerator();
+
+        StringBuilder sql = new StringBuilder("select id, name, email, salary, department, gender, version "
+                + "from final table (merge into employees t using (values ");
+        for (int i = 0; i < employees.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+        sql.append(") s(" + MERGE_COLUMNS + ") on t.email = s.email "
+                + "when matched and (t.name <> s.name or t.salary <> s.salary or t.department <> s.department or t.gender <> s.gender) "
+                + "then update set name = s.name, salary = s.salary, department = s.department, gender = s.gender, "
+                + "bonus = s.bonus, pf = s.pf, tax = s.tax, tax_rule_version = s.tax_rule_version, version = t.version + 1 "
+                + "when not matched then insert (" + MERGE_COLUMNS + ", version) values (s.id, s.name, s.email, s.salary, "
+                + "s.department, s.gender, s.bonus, s.pf, s.tax, s.tax_rule_version, 0))");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (Employee employee : employees) {
+            query.setParameter(position++, ids.generate(session, employee));
+            query.setParameter(position++, employee.getName());
+            query.setParameter(position++, employee.getEmail());
+            query.setParameter(position++, employee.getSalary());
+            query.setParameter(position++, employee.getDepartment());
+            query.setParameter(position++, employee.getGender());
+            query.setParameter(position++, employee.getBonus());
+            query.setParameter(position++, employee.getPf());
+            query.setParameter(position++, employee.getTax());
+            query.setParameter(position++, employee.getTaxRuleVersion());
+        }
+        List<?> rows = query.getResultList();
+        List<EmployeeSummary> written = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            written.add(toSummary((Object[]) row));
+        }
+        return written;
+    }
+
+    private static EmployeeSummary toSummary(Object[] row) {
+        return new EmployeeSummary(((Number) row[0]).longValue(), (String) row[1], (String) row[2],
+                ((Number) row[3]).doubleValue(), (String) row[4], (String) row[5], ((Number) row[6]).longValue());
+    }
+}
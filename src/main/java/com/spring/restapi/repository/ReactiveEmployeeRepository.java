@@ -0,0 +1,134 @@
+package com.spring.restapi.repository;
+
+import com.spring.restapi.models.Employee;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking reads of the employees table through R2DBC, for {@code /api/reactive/employees}.
+ * Rows are emitted as the subscriber requests them, so a slow consumer holds a cursor and a
+ * pooled connection but no thread. The schema is still owned by Hibernate; this only reads it.
+ *
+ * The connection pool is deliberately not a Spring bean: a {@code ConnectionFactory} bean would
+ * make Boot back the JDBC {@code DataSource} off, and the JPA side still needs it.
+ */
+@Repository
+public class ReactiveEmployeeRepository implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeRepository.class);
+
+    private static final String COLUMNS = "select id, name, email, salary, department, gender, bonus, pf, tax, tax_rule_version, version ";
+    private static final String SELECT = COLUMNS + "from employees ";
+
+    // Package-private so EmployeeRepositoryQueryPlanTests can check their plans; R2DBC bypasses Hibernate
+    static final String FIND_BY_ID = SELECT + "where id = :id";
+    static final String STREAM_ALL = SELECT + "where id > :after order by id";
+    static final String STREAM_BY_DEPARTMENT = SELECT + "where department = :department and id > :after order by id";
+    static final String STREAM_BY_GENDER = SELECT + "where gender = :gender and id > :after order by id";
+    // Same index hint as EmployeeRepository: otherwise H2 walks the primary key for "order by id"
+    static final String STREAM_BY_SALARY_BETWEEN = COLUMNS + "from employees use index (IDX_EMPLOYEES_SALARY) "
+            + "where salary between :minSalary and :maxSalary and id > :after order by id";
+
+    private final ConnectionPool pool;
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public ReactiveEmployeeRepository(@Value("${employee.reactive.url}") String url,
+                                      @Value("${spring.datasource.username}") String username,
+                                      @Value("${spring.datasource.password}") String password,
+                                      @Value("${employee.reactive.pool.max-size:50}") int maxSize,
+                                      @Value("${employee.reactive.pool.max-acquire-time:PT5S}") Duration maxAcquireTime,
+                                      @Value("${employee.reactive.fetch-size:500}") int fetchSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-employees")
+                .maxSize(maxSize)
+                .initialSize(0)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+        this.databaseClient = DatabaseClient.create(pool);
+        this.fetchSize = fetchSize;
+        logger.info("REACTIVE EMPLOYEE REPOSITORY CONFIGURED - URL: {}, Pool Size: {}, Fetch Size: {}", url, maxSize, fetchSize);
+    }
+
+    public Mono<Employee> findById(Long id) {
+        return databaseClient.sql(FIND_BY_ID)
+                .bind("id", id)
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .one();
+    }
+
+    // Keyset streams: resume after the last id seen, like the blocking list queries, but without a page limit
+    public Flux<Employee> streamAll(Long after) {
+        return databaseClient.sql(STREAM_ALL)
+                .bind("after", after)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .all();
+    }
+
+    public Flux<Employee> streamByDepartment(String department, Long after) {
+        return databaseClient.sql(STREAM_BY_DEPARTMENT)
+                .bind("department", department)
+                .bind("after", after)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .all();
+    }
+
+    public Flux<Employee> streamByGender(String gender, Long after) {
+        return databaseClient.sql(STREAM_BY_GENDER)
+                .bind("gender", gender)
+                .bind("after", after)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .all();
+    }
+
+    public Flux<Employee> streamBySalaryBetween(Double minSalary, Double maxSalary, Long after) {
+        return databaseClient.sql(STREAM_BY_SALARY_BETWEEN)
+                .bind("minSalary", minSalary)
+                .bind("maxSalary", maxSalary)
+                .bind("after", after)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .all();
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+
+    private static Employee toEmployee(Readable row) {
+        Employee employee = new Employee(row.get("name", String.class), row.get("email", String.class),
+                row.get("salary", Double.class), row.get("department", String.class), row.get("gender", String.class));
+        employee.setId(row.get("id", Long.class));
+        employee.setBonus(row.get("bonus", Double.class));
+        employee.setPf(row.get("pf", Double.class));
+        employee.setTax(row.get("tax", Double.class));
+        employee.setTaxRuleVersion(row.get("tax_rule_version", Integer.class));
+        employee.setVersion(row.get("version", Long.class));
+        return employee;
+    }
+}
@@ -0,0 +1,145 @@
+package com.spring.restapi.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.repository.EmployeeRepository;
+
+import jakarta.persistence.EntityManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the whole employee table to an output stream one row at a time.
+ * Rows come from a server-side cursor and are detached as soon as they are written,
+ * so memory use does not grow with the size of the table.
+ */
+@Service
+public class EmployeeExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeExportService.class);
+
+    private static final String CSV_HEADER = "id,name,email,salary,department,gender,bonus,pf,tax";
+
+    public enum ExportFormat { NDJSON, CSV }
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportEmployees(ExportFormat format, OutputStream out) throws IOException {
+        logger.info("EXPORTING EMPLOYEES - Format: {}", format);
+        long started = System.nanoTime();
+        long rows;
+        try (Stream<Employee> employees = employeeRepository.streamAllOrderedById()) {
+            rows = switch (format) {
+                case NDJSON -> writeNdjson(employees.iterator(), out);
+                case CSV -> writeCsv(employees.iterator(), out);
+            };
+        }
+        logger.info("EXPORT COMPLETED - {} EMPLOYEES WRITTEN AS {} IN {} ms",
+                   rows, format, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<Employee> employees, OutputStream out) throws IOException {
+        long rows = 0;
+        JsonGenerator json = objectMapper.getFactory().createGenerator(out);
+        // Rows end in their own newline; the default separator would prefix every later row with a space
+        json.setRootValueSeparator(null);
+        while (employees.hasNext()) {
+            Employee emp = employees.next();
+            json.writeStartObject();
+            json.writeNumberField("id", emp.getId());
+            json.writeStringField("name", emp.getName());
+            json.writeStringField("email", emp.getEmail());
+            writeNumber(json, "salary", emp.getSalary());
+            json.writeStringField("department", emp.getDepartment());
+            json.writeStringField("gender", emp.getGender());
+            writeNumber(json, "bonus", emp.getBonus());
+            writeNumber(json, "pf", emp.getPf());
+            writeNumber(json, "tax", emp.getTax());
+            json.writeEndObject();
+            json.writeRaw('\n');
+            entityManager.detach(emp);
+            rows++;
+        }
+        json.flush();
+        return rows;
+    }
+
+    private void writeNumber(JsonGenerator json, String field, Double value) throws IOException {
+        if (value == null) {
+            json.writeNullField(field);
+        } else {
+            json.writeNumberField(field, value);
+        }
+    }
+
+    private long writeCsv(Iterator<Employee> employees, OutputStream out) throws IOException {
+        long rows = 0;
+        Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        csv.write(CSV_HEADER);
+        csv.write('\n');
+        while (employees.hasNext()) {
+            Employee emp = employees.next();
+            csv.write(String.valueOf(emp.getId()));
+            csv.write(',');
+            csv.write(csvField(emp.getName()));
+            csv.write(',');
+            csv.write(csvField(emp.getEmail()));
+            csv.write(',');
+            csv.write(csvNumber(emp.getSalary()));
+            csv.write(',');
+            csv.write(csvField(emp.getDepartment()));
+            csv.write(',');
+            csv.write(csvField(emp.getGender()));
+            csv.write(',');
+            csv.write(csvNumber(emp.getBonus()));
+            csv.write(',');
+            csv.write(csvNumber(emp.getPf()));
+            csv.write(',');
+            csv.write(csvNumber(emp.getTax()));
+            csv.write('\n');
+            entityManager.detach(emp);
+            rows++;
+        }
+        csv.flush();
+        return rows;
+    }
+
+    private String csvNumber(Double value) {
+        return value == null ? "" : value.toString();
+    }
+
+    // RFC 4180 quoting: only fields containing a delimiter, quote or line break are wrapped
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
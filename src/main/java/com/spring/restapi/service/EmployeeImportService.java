@@ -0,0 +1,283 @@
+package com.spring.restapi.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.spring.restapi.models.Employee;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports employees from an NDJSON or CSV request body without materializing it.
+ * Rows are parsed one record at a time, validated, and persisted in fixed-size chunks,
+ * each chunk in its own transaction. A per-row report is streamed back as NDJSON
+ * once the chunk holding those rows has been committed.
+ */
+@Service
+public class EmployeeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    public enum ImportFormat { NDJSON, CSV }
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${employee.import.chunk-size:500}")
+    private int chunkSize;
+
+    public void importEmployees(ImportFormat format, InputStream in, OutputStream out) throws IOException {
+        logger.info("IMPORTING EMPLOYEES - Format: {}, Chunk Size: {}", format, chunkSize);
+        long started = System.nanoTime();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        JsonGenerator report = objectMapper.getFactory().createGenerator(out);
+        // Each report line ends in its own newline; the default separator would prefix every later line with a space
+        report.setRootValueSeparator(null);
+        ObjectReader jsonRows = objectMapper.readerFor(Employee.class);
+        Map<String, Integer> csvColumns = format == ImportFormat.CSV ? readCsvHeader(reader) : null;
+
+        List<RowResult> chunk = new ArrayList<>(chunkSize);
+        long rowNumber = 0;
+        long accepted = 0;
+        String record;
+        while ((record = format == ImportFormat.CSV ? readCsvRecord(reader) : reader.readLine()) != null) {
+            if (record.isBlank()) {
+                continue;
+            }
+            rowNumber++;
+            RowResult row = new RowResult(rowNumber);
+            try {
+                row.employee = format == ImportFormat.CSV ? parseCsvRow(record, csvColumns) : jsonRows.readValue(record);
+                if (row.employee == null) {
+                    throw new IllegalArgumentException("row is empty");
+                }
+                row.employee.setId(null);
+                row.reason = validate(row.employee);
+            } catch (JsonProcessingException | IllegalArgumentException ex) {
+                row.reason = "Malformed row: " + firstLine(ex.getMessage());
+            }
+            chunk.add(row);
+
+            if (chunk.size() == chunkSize) {
+                persistChunk(chunk);
+                accepted += writeReport(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            persistChunk(chunk);
+            accepted += writeReport(chunk, report);
+        }
+        long rejected = rowNumber - accepted;
+
+        report.writeStartObject();
+        report.writeStringField("status", "SUMMARY");
+        report.writeNumberField("rows", rowNumber);
+        report.writeNumberField("accepted", accepted);
+        report.writeNumberField("rejected", rejected);
+        report.writeEndObject();
+        report.writeRaw('\n');
+        report.flush();
+
+        logger.info("IMPORT COMPLETED - Rows: {}, Accepted: {}, Rejected: {}, Time: {} ms",
+                   rowNumber, accepted, rejected, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // Commits the valid rows of a chunk in one transaction; if the database rejects the chunk
+    // (e.g. a duplicate email) each row is retried on its own so only the offending rows fail
+    private void persistChunk(List<RowResult> chunk) {
+        List<RowResult> valid = chunk.stream().filter(row -> row.reason == null).toList();
+        if (valid.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    employeeService.saveAllEmployees(valid.stream().map(row -> row.employee).toList()));
+            return;
+        } catch (RuntimeException ex) {
+            logger.warn("IMPORT CHUNK REJECTED, RETRYING ROW BY ROW - Rows: {}-{}, Cause: {}",
+                       chunk.get(0).rowNumber, chunk.get(chunk.size() - 1).rowNumber,
+                       firstLine(NestedExceptionUtils.getMostSpecificCause(ex).getMessage()));
+        }
+        for (RowResult row : valid) {
+            row.employee.setId(null);
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        employeeService.saveAllEmployees(List.of(row.employee)));
+            } catch (RuntimeException ex) {
+                String cause = firstLine(NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+                row.reason = "Rejected by database: " + cause.replace("; SQL statement:", "");
+            }
+        }
+    }
+
+    private long writeReport(List<RowResult> chunk, JsonGenerator report) throws IOException {
+        long accepted = 0;
+        for (RowResult row : chunk) {
+            report.writeStartObject();
+            report.writeNumberField("row", row.rowNumber);
+            if (row.reason == null) {
+                report.writeStringField("status", "ACCEPTED");
+                report.writeNumberField("id", row.employee.getId());
+                accepted++;
+            } else {
+                report.writeStringField("status", "REJECTED");
+                report.writeStringField("reason", row.reason);
+            }
+            report.writeEndObject();
+            report.writeRaw('\n');
+        }
+        report.flush();
+        return accepted;
+    }
+
+    private String validate(Employee employee) {
+        Set<ConstraintViolation<Employee>> violations = validator.validate(employee);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private Map<String, Integer> readCsvHeader(BufferedReader reader) throws IOException {
+        Map<String, Integer> columns = new HashMap<>();
+        String header = readCsvRecord(reader);
+        if (header != null) {
+            List<String> names = parseCsvRecord(header);
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+        return columns;
+    }
+
+    // One RFC 4180 record, without its line break. A quoted field may span lines (the export writes
+    // names containing line breaks that way), so a line break only ends the record outside quotes;
+    // a doubled quote toggles the state twice and leaves it unchanged.
+    private String readCsvRecord(BufferedReader reader) throws IOException {
+        StringBuilder record = new StringBuilder();
+        boolean quoted = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (!quoted && (c == '\n' || c == '\r')) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                return record.toString();
+            }
+            record.append((char) c);
+        }
+        return record.isEmpty() ? null : record.toString();
+    }
+
+    private Employee parseCsvRow(String record, Map<String, Integer> columns) {
+        List<String> fields = parseCsvRecord(record);
+        String salary = column(fields, columns, "salary");
+        Employee employee = new Employee();
+        employee.setName(column(fields, columns, "name"));
+        employee.setEmail(column(fields, columns, "email"));
+        employee.setDepartment(column(fields, columns, "department"));
+        employee.setGender(column(fields, columns, "gender"));
+        try {
+            employee.setSalary(salary == null || salary.isBlank() ? null : Double.valueOf(salary.trim()));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("salary '" + salary + "' is not a number");
+        }
+        return employee;
+    }
+
+    private String column(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index == null || index >= fields.size() ? null : fields.get(index);
+    }
+
+    // Splits one RFC 4180 record; quoted fields may contain commas, doubled quotes and line breaks
+    private List<String> parseCsvRecord(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String firstLine(String message) {
+        if (message == null) {
+            return "unknown error";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+
+    private static class RowResult {
+        private final long rowNumber;
+        private Employee employee;
+        private String reason;
+
+        RowResult(long rowNumber) {
+            this.rowNumber = rowNumber;
+        }
+    }
+}
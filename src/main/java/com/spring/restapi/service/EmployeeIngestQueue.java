@@ -0,0 +1,262 @@
+package com.spring.restapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.restapi.exception.IngestQueueFullException;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeeIngestStatus;
+import com.spring.restapi.models.EmployeeIngestStatus.State;
+import com.spring.restapi.models.EmployeeUpsertResult;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind ingestion for bursts of create/update events. {@link #submit} does no database work:
+ * it puts the already validated rows on a bounded in-memory queue and returns a ticket. A single writer
+ * thread drains the queue in batches of up to batch-size rows and upserts each batch by email in one
+ * transaction ({@link EmployeeService#upsertEmployees}), so rows are applied in arrival order and a
+ * replayed event is harmless.
+ *
+ * A request is queued whole or not at all; when its rows do not fit, {@link IngestQueueFullException}
+ * carries a Retry-After estimated from the writer's recent throughput. On shutdown the queue stops
+ * accepting and the writer flushes what is left before the database goes away.
+ */
+@Component
+public class EmployeeIngestQueue implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeIngestQueue.class);
+
+    private static final long MAX_RETRY_AFTER_SECONDS = 60;
+
+    private final EmployeeService employeeService;
+    private final BlockingQueue<Event> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+    private final Map<String, Ticket> pending = new ConcurrentHashMap<>();
+    private final Cache<String, EmployeeIngestStatus> finished;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "employee-ingest"));
+    private volatile boolean accepting = true;
+    private volatile double rowsPerSecond;
+
+    public EmployeeIngestQueue(EmployeeService employeeService,
+                               @Value("${employee.ingest.queue-capacity:10000}") int capacity,
+                               @Value("${employee.ingest.batch-size:500}") int batchSize,
+                               @Value("${employee.ingest.ticket-ttl:PT15M}") Duration ticketTtl,
+                               @Value("${employee.ingest.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.employeeService = employeeService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.finished = Caffeine.newBuilder()
+                .maximumSize(capacity)
+                .expireAfterWrite(ticketTtl)
+                .build();
+        writer.execute(this::drain);
+        logger.info("EMPLOYEE INGEST QUEUE CONFIGURED - Capacity: {}, Batch Size: {}, Ticket TTL: {}", capacity, batchSize, ticketTtl);
+    }
+
+    // Only the writer takes from the queue, so free space checked under the lock can only grow before the offers
+    public synchronized EmployeeIngestStatus submit(List<Employee> employees) {
+        if (!accepting) {
+            throw new IngestQueueFullException("Ingest queue is shutting down, retry later", 1);
+        }
+        if (queue.remainingCapacity() < employees.size()) {
+            long retryAfter = retryAfterSeconds(employees.size() - queue.remainingCapacity());
+            logger.warn("INGEST QUEUE FULL - Rows: {}, Queued: {}, Retry After: {} s", employees.size(), queue.size(), retryAfter);
+            throw new IngestQueueFullException("Ingest queue is full, retry in " + retryAfter + " s", retryAfter);
+        }
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), employees.size());
+        pending.put(ticket.id, ticket);
+        for (int i = 0; i < employees.size(); i++) {
+            queue.add(new Event(ticket, i, employees.get(i)));
+        }
+        return ticket.status();
+    }
+
+    public Optional<EmployeeIngestStatus> getStatus(String ticket) {
+        Ticket queued = pending.get(ticket);
+        return queued != null ? Optional.of(queued.status()) : Optional.ofNullable(finished.getIfPresent(ticket));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getQueuedRows() {
+        return queue.size();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        shutdown();
+    }
+
+    // Also called by the shutdown snapshot, which has to run after the flush; only the first call does anything
+    public void shutdown() throws InterruptedException {
+        synchronized (this) {
+            if (!accepting) {
+                return;
+            }
+            accepting = false;
+        }
+        logger.info("EMPLOYEE INGEST QUEUE SHUTTING DOWN - FLUSHING {} QUEUED ROWS", queue.size());
+        writer.shutdown();
+        if (!writer.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            writer.shutdownNow();
+            logger.error("EMPLOYEE INGEST QUEUE NOT FLUSHED WITHIN {} - {} ROWS LOST", shutdownTimeout, queue.size());
+        }
+    }
+
+    private void drain() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                Event first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Event> batch) {
+        long started = System.nanoTime();
+        batch.removeIf(event -> event.ticket().isFailed());
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<EmployeeUpsertResult> results = employeeService.upsertEmployees(batch.stream().map(Event::employee).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            // One ticket's bad row must not fail the others it happened to share a batch with
+            Map<Ticket, List<Event>> byTicket = new LinkedHashMap<>();
+            for (Event event : batch) {
+                byTicket.computeIfAbsent(event.ticket(), ticket -> new ArrayList<>()).add(event);
+            }
+            if (byTicket.size() == 1) {
+                fail(byTicket.keySet().iterator().next(), e);
+            } else {
+                byTicket.forEach(this::retry);
+            }
+        }
+        long elapsed = Math.max(System.nanoTime() - started, 1);
+        double rate = batch.size() * 1e9 / elapsed;
+        rowsPerSecond = rowsPerSecond == 0 ? rate : 0.8 * rowsPerSecond + 0.2 * rate;
+        logger.debug("INGEST BATCH WRITTEN - {} ROWS, {} STILL QUEUED - {} ms", batch.size(), queue.size(), elapsed / 1_000_000);
+    }
+
+    private void retry(Ticket ticket, List<Event> events) {
+        try {
+            List<EmployeeUpsertResult> results = employeeService.upsertEmployees(events.stream().map(Event::employee).toList());
+            for (int i = 0; i < events.size(); i++) {
+                events.get(i).complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            fail(ticket, e);
+        }
+    }
+
+    private void fail(Ticket ticket, RuntimeException e) {
+        logger.error("INGEST TICKET FAILED - Ticket: {}, {} OF {} ROWS WRITTEN", ticket.id, ticket.written, ticket.rows, e);
+        ticket.fail(e.getMessage());
+    }
+
+    // Time for the writer to free the missing space at its recent rate, between one second and a minute
+    private long retryAfterSeconds(int missingRows) {
+        double rate = rowsPerSecond;
+        if (rate <= 0) {
+            return 1;
+        }
+        return Math.min(MAX_RETRY_AFTER_SECONDS, Math.max(1, (long) Math.ceil(missingRows / rate)));
+    }
+
+    private record Event(Ticket ticket, int index, Employee employee) {
+
+        void complete(EmployeeUpsertResult result) {
+            ticket.complete(index, result);
+        }
+    }
+
+    private final class Ticket {
+
+        private final String id;
+        private final int rows;
+        private final Instant acceptedAt = Instant.now();
+        private final EmployeeUpsertResult[] results;
+        private int written;
+        private String error;
+
+        Ticket(String id, int rows) {
+            this.id = id;
+            this.rows = rows;
+            this.results = new EmployeeUpsertResult[rows];
+        }
+
+        synchronized void complete(int index, EmployeeUpsertResult result) {
+            if (error != null) {
+                return;
+            }
+            results[index] = result;
+            if (++written == rows) {
+                finish();
+            }
+        }
+
+        // Rows of the ticket still waiting in the queue are skipped by the writer
+        synchronized void fail(String message) {
+            if (error == null) {
+                error = message == null ? "Write failed" : message;
+                finish();
+            }
+        }
+
+        synchronized boolean isFailed() {
+            return error != null;
+        }
+
+        synchronized EmployeeIngestStatus status() {
+            State state = error != null ? State.FAILED : written == rows ? State.COMPLETED : State.QUEUED;
+            return new EmployeeIngestStatus(id, state, rows, written, acceptedAt, state == State.QUEUED ? null : Instant.now(),
+                    state == State.COMPLETED ? Arrays.asList(results) : null, error);
+        }
+
+        private void finish() {
+            finished.put(id, status());
+            pending.remove(id);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.spring.restapi.service;
+
+import com.spring.restapi.cache.EmployeeCache;
+import com.spring.restapi.index.EmployeeIndexes;
+import com.spring.restapi.models.EmployeePurgeStatus;
+import com.spring.restapi.models.EmployeePurgeStatus.State;
+import com.spring.restapi.repository.EmployeeRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Deletes every employee in the background, one bounded batch per transaction, so a large table
+ * never needs one huge transaction or a request that outlives its timeout. Each batch is a single
+ * DELETE of the lowest ids that reports the ids it removed; those are evicted from the cache and
+ * the in-memory indexes as the batch commits. Rows inserted while a purge runs are deleted too,
+ * since the job only stops at the first batch that comes back short.
+ *
+ * One purge runs at a time; starting another while it runs returns the running one.
+ */
+@Component
+public class EmployeePurgeJob implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeePurgeJob.class);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private EmployeeIndexes employeeIndexes;
+
+    @Value("${employee.purge.batch-size:1000}")
+    private int batchSize;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "employee-purge"));
+    private final Map<String, EmployeePurgeStatus> jobs = new ConcurrentHashMap<>();
+    private EmployeePurgeStatus running;
+
+    public synchronized EmployeePurgeStatus start() {
+        if (running != null) {
+            return jobs.get(running.id());
+        }
+        EmployeePurgeStatus status = new EmployeePurgeStatus(UUID.randomUUID().toString(), State.RUNNING, 0, 0,
+                Instant.now(), null, null);
+        jobs.put(status.id(), status);
+        running = status;
+        logger.info("EMPLOYEE PURGE STARTED - Job: {}, Batch Size: {}", status.id(), batchSize);
+        executor.execute(() -> purge(status.id()));
+        return status;
+    }
+
+    public Optional<EmployeePurgeStatus> getStatus(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void purge(String id) {
+        long started = System.nanoTime();
+        long deleted = 0;
+        int batches = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Long> ids = transactionTemplate.execute(status -> {
+                    List<Long> batch = employeeRepository.deleteFirst(batchSize);
+                    employeeCache.evict(batch);
+                    employeeIndexes.remove(batch);
+                    return batch;
+                });
+                deleted += ids.size();
+                batches++;
+                update(id, State.RUNNING, deleted, batches, null);
+                if (ids.size() < batchSize) {
+                    break;
+                }
+            }
+            update(id, State.COMPLETED, deleted, batches, null);
+            logger.info("EMPLOYEE PURGE COMPLETED - Job: {}, {} EMPLOYEES IN {} BATCHES - {} ms",
+                       id, deleted, batches, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            update(id, State.FAILED, deleted, batches, e.getMessage());
+            logger.error("EMPLOYEE PURGE FAILED - Job: {}, {} EMPLOYEES DELETED BEFORE THE ERROR", id, deleted, e);
+        } finally {
+            synchronized (this) {
+                running = null;
+            }
+        }
+    }
+
+    private void update(String id, State state, long deleted, int batches, String error) {
+        jobs.compute(id, (key, status) -> new EmployeePurgeStatus(id, state, deleted, batches, status.startedAt(),
+                state == State.RUNNING ? null : Instant.now(), error));
+    }
+}
@@ -1,24 +1,52 @@
 package com.spring.restapi.service;
 
+import com.spring.restapi.cache.EmployeeCache;
+import com.spring.restapi.cache.EncodedEmployee;
+import com.spring.restapi.config.LoggingProperties;
+import com.spring.restapi.index.EmployeeBitmapIndex;
+import com.spring.restapi.index.EmployeeIndexes;
+import com.spring.restapi.index.EmployeeNameIndex;
+import com.spring.restapi.index.EmployeeSalaryIndex;
 import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeePage;
+import com.spring.restapi.models.EmployeeStatistics;
+import com.spring.restapi.models.EmployeeSummary;
+import com.spring.restapi.models.EmployeeUpsertResult;
+import com.spring.restapi.models.EmployeeUpsertResult.Status;
 import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.repository.EmployeeRepositoryCustom.Column;
 import com.spring.restapi.exception.EmployeeNotFoundException;
+import com.spring.restapi.exception.InvalidUpdateException;
+import com.spring.restapi.exception.PreconditionFailedException;
+import com.spring.restapi.service.PayrollCalculator.Deductions;
+
+import io.micrometer.core.annotation.Timed;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Validated
+@Timed(value = "employee.service", histogram = true)
 public class EmployeeService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
@@ -26,12 +54,56 @@ public class EmployeeService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PayrollCalculator payrollCalculator;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private EmployeeIndexes employeeIndexes;
+
+    @Autowired
+    private EmployeeNameIndex employeeNameIndex;
+
+    @Autowired
+    private EmployeeSalaryIndex employeeSalaryIndex;
+
+    @Autowired
+    private EmployeeBitmapIndex employeeBitmapIndex;
+
+    @Autowired
+    private LoggingProperties loggingProperties;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Value("${employee.upsert.batch-size:500}")
+    private int upsertBatchSize;
+
+    @Value("${employee.pagination.default-limit:100}")
+    private int defaultPageSize;
+
+    @Value("${employee.pagination.max-limit:1000}")
+    private int maxPageSize;
+
     public Employee saveEmployee(@Valid Employee employee) {
         logger.info("SAVING EMPLOYEE - Name: {}, Department: {}, Gender: {}, Salary: {}", 
                    employee.getName(), employee.getDepartment(), employee.getGender(), employee.getSalary());
         
-        calculateEmployeeDeductions(employee);
-        Employee saved = employeeRepository.save(employee);
+        Employee target = employee;
+        if (employee.getId() != null) {
+            target = employeeRepository.findById(employee.getId())
+                    .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + employee.getId()));
+            copyFields(employee, target);
+        }
+        payrollCalculator.applyDeductions(target);
+        Employee saved = employeeRepository.save(target);
+        employeeCache.evict(saved.getId());
+        employeeIndexes.put(saved);
         
         logger.info("EMPLOYEE SAVED SUCCESSFULLY - ID: {}, Name: {}, Department: {}, Gender: {}, Salary: {}, Bonus: {}, PF: {}, Tax: {}", 
                    saved.getId(), saved.getName(), saved.getDepartment(), saved.getGender(), 
@@ -39,70 +111,46 @@ public class EmployeeService {
         return saved;
     }
 
+    // One DELETE by id; the name in the log comes from the in-memory row store, not from a SELECT
+    @Transactional
     public void deleteEmployeeById(Long id) {
-        // First get employee details before deleting
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> {
-                    logger.error("EMPLOYEE NOT FOUND FOR DELETION - ID: {}", id);
-                    return new EmployeeNotFoundException("Employee not found with id: " + id);
-                });
-        
-        logger.info("DELETING EMPLOYEE - ID: {}, Name: {}, Department: {}, Gender: {}, Salary: {}", 
-                   id, employee.getName(), employee.getDepartment(), employee.getGender(), employee.getSalary());
-        
-        employeeRepository.delete(employee);
+        Optional<EmployeeSummary> known = employeeIndexes.get(id);
+        if (employeeRepository.deleteEmployeeById(id) == 0) {
+            logger.error("EMPLOYEE NOT FOUND FOR DELETION - ID: {}", id);
+            throw new EmployeeNotFoundException("Employee not found with id: " + id);
+        }
+        employeeCache.evict(id);
+        employeeIndexes.remove(id);
         
         logger.info("EMPLOYEE DELETED SUCCESSFULLY - ID: {}, Name: {}, Department: {}", 
-                   id, employee.getName(), employee.getDepartment());
-    }
-
-    private void calculateEmployeeDeductions(Employee employee) {
-        logger.debug("CALCULATING DEDUCTIONS - Employee: {} (ID: {})", employee.getName(), employee.getId());
-        Double salary = employee.getSalary();
-        Double bonus = salary * 0.10;
-        employee.setBonus(bonus);
-        Double pf = salary * 0.12;
-        employee.setPf(pf);
-        Double tax = calculateTax(salary);
-        employee.setTax(tax);
-        logger.debug("DEDUCTIONS CALCULATED - Employee: {}, Bonus: {}, PF: {}, Tax: {}, Net Salary: {}", 
-                   employee.getName(), bonus, pf, tax, (salary + bonus - pf - tax));
-    }
-
-    private Double calculateTax(Double salary) {
-        if (salary <= 250000) {
-            return 0.0;
-        } else if (salary <= 500000) {
-            return (salary - 250000) * 0.05;
-        } else if (salary <= 1000000) {
-            return 12500 + (salary - 500000) * 0.20;
-        } else {
-            return 112500 + (salary - 1000000) * 0.30;
-        }
+                   id, known.map(EmployeeSummary::name).orElse(null), known.map(EmployeeSummary::department).orElse(null));
     }
 
-    public List<Employee> getAllEmployees() {
-        logger.info("FETCHING ALL EMPLOYEES");
-        List<Employee> employees = employeeRepository.findAll();
-        employees.forEach(this::calculateEmployeeDeductions);
+    public EmployeePage getAllEmployees(Long after, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        long started = System.nanoTime();
+        logger.debug("FETCHING EMPLOYEES - After: {}, Limit: {}", after, pageSize);
+        List<EmployeeSummary> employees = employeeRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(pageSize + 1));
+        EmployeePage page = toPage(employees, pageSize);
         
-        logger.info("FETCHED {} EMPLOYEES:", employees.size());
-        for (Employee emp : employees) {
-            logger.info("  - ID: {}, Name: {}, Department: {}, Gender: {}, Salary: {}, Bonus: {}, PF: {}, Tax: {}", 
-                       emp.getId(), emp.getName(), emp.getDepartment(), emp.getGender(), 
-                       emp.getSalary(), emp.getBonus(), emp.getPf(), emp.getTax());
+        logger.info("FETCHED {} EMPLOYEES - {} ms", page.getSize(), elapsedMillis(started));
+        if (!loggingProperties.isDetail()) {
+            return page;
         }
-        return employees;
+        for (EmployeeSummary emp : page.getEmployees()) {
+            logger.info("  - ID: {}, Name: {}, Department: {}, Gender: {}, Salary: {}", 
+                       emp.id(), emp.name(), emp.department(), emp.gender(), emp.salary());
+        }
+        return page;
     }
 
     public Optional<Employee> getEmployeeById(Long id) {
         logger.info("FETCHING EMPLOYEE BY ID: {}", id);
-        Optional<Employee> employeeOpt = employeeRepository.findById(id);
+        Optional<Employee> employeeOpt = employeeCache.getById(id, this::loadDetached);
         if (employeeOpt.isEmpty()) {
             logger.warn("EMPLOYEE NOT FOUND - ID: {}", id);
         } else {
             Employee employee = employeeOpt.get();
-            calculateEmployeeDeductions(employee);
             logger.info("EMPLOYEE FOUND - ID: {}, Name: {}, Department: {}, Gender: {}, Salary: {}, Bonus: {}, PF: {}, Tax: {}", 
                        employee.getId(), employee.getName(), employee.getDepartment(), employee.getGender(), 
                        employee.getSalary(), employee.getBonus(), employee.getPf(), employee.getTax());
@@ -110,95 +158,351 @@ public class EmployeeService {
         return employeeOpt;
     }
 
-    public List<Employee> getEmployeesByDepartment(String department) {
-        logger.info("FETCHING EMPLOYEES BY DEPARTMENT: {}", department);
-        List<Employee> employees = employeeRepository.findByDepartment(department);
-        employees.forEach(this::calculateEmployeeDeductions);
+    // The JSON body of GET /{id}, encoded once per cached employee instead of on every read
+    public Optional<EncodedEmployee> getEncodedEmployeeById(Long id) {
+        logger.info("FETCHING ENCODED EMPLOYEE BY ID: {}", id);
+        Optional<EncodedEmployee> encoded = employeeCache.getEncodedById(id, this::loadDetached);
+        if (encoded.isEmpty()) {
+            logger.warn("EMPLOYEE NOT FOUND - ID: {}", id);
+        } else {
+            logger.info("EMPLOYEE FOUND - ID: {}, Version: {}, {} BYTES", id, encoded.get().version(), encoded.get().json().length);
+        }
+        return encoded;
+    }
+
+    public EmployeePage getEmployeesByDepartment(String department, Long after, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        long started = System.nanoTime();
+        logger.debug("FETCHING EMPLOYEES BY DEPARTMENT: {}, After: {}, Limit: {}", department, after, pageSize);
+        List<EmployeeSummary> employees = employeeIndexes.resolve(employeeBitmapIndex.page(department, null, after, pageSize + 1));
+        EmployeePage page = toPage(employees, pageSize);
         
-        logger.info("FETCHED {} EMPLOYEES FROM DEPARTMENT {}:", employees.size(), department);
-        for (Employee emp : employees) {
-            logger.info("  - ID: {}, Name: {}, Gender: {}, Salary: {}, Bonus: {}, PF: {}, Tax: {}", 
-                       emp.getId(), emp.getName(), emp.getGender(), emp.getSalary(), 
-                       emp.getBonus(), emp.getPf(), emp.getTax());
+        logger.info("FETCHED {} EMPLOYEES FROM DEPARTMENT {} - {} ms", page.getSize(), department, elapsedMillis(started));
+        if (!loggingProperties.isDetail()) {
+            return page;
         }
-        return employees;
+        for (EmployeeSummary emp : page.getEmployees()) {
+            logger.info("  - ID: {}, Name: {}, Gender: {}, Salary: {}", 
+                       emp.id(), emp.name(), emp.gender(), emp.salary());
+        }
+        return page;
     }
 
-    public List<Employee> getEmployeesByGender(String gender) {
-        logger.info("FETCHING EMPLOYEES BY GENDER: {}", gender);
-        List<Employee> employees = employeeRepository.findByGender(gender);
-        employees.forEach(this::calculateEmployeeDeductions);
+    public EmployeePage getEmployeesByGender(String gender, Long after, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        long started = System.nanoTime();
+        logger.debug("FETCHING EMPLOYEES BY GENDER: {}, After: {}, Limit: {}", gender, after, pageSize);
+        List<EmployeeSummary> employees = employeeIndexes.resolve(employeeBitmapIndex.page(null, gender, after, pageSize + 1));
+        EmployeePage page = toPage(employees, pageSize);
         
-        logger.info("FETCHED {} EMPLOYEES WITH GENDER {}:", employees.size(), gender);
-        for (Employee emp : employees) {
-            logger.info("  - ID: {}, Name: {}, Department: {}, Salary: {}, Bonus: {}, PF: {}, Tax: {}", 
-                       emp.getId(), emp.getName(), emp.getDepartment(), emp.getSalary(), 
-                       emp.getBonus(), emp.getPf(), emp.getTax());
+        logger.info("FETCHED {} EMPLOYEES WITH GENDER {} - {} ms", page.getSize(), gender, elapsedMillis(started));
+        if (!loggingProperties.isDetail()) {
+            return page;
         }
-        return employees;
+        for (EmployeeSummary emp : page.getEmployees()) {
+            logger.info("  - ID: {}, Name: {}, Department: {}, Salary: {}", 
+                       emp.id(), emp.name(), emp.department(), emp.salary());
+        }
+        return page;
     }
 
-    public Employee updateEmployee(Long id, @Valid Employee employeeDetails) {
+    // Full replacement in one UPDATE ... returning the written row; the email is not replaceable
+    @Transactional
+    public EmployeeSummary updateEmployee(Long id, @Valid Employee employeeDetails, Long expectedVersion) {
         logger.info("UPDATING EMPLOYEE - ID: {}, New Details - Name: {}, Department: {}, Gender: {}, Salary: {}", 
                    id, employeeDetails.getName(), employeeDetails.getDepartment(), 
                    employeeDetails.getGender(), employeeDetails.getSalary());
         
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> {
-                    logger.error("EMPLOYEE NOT FOUND FOR UPDATE - ID: {}", id);
-                    return new EmployeeNotFoundException("Employee not found with id: " + id);
-                });
-        
-        // Log old values
-        logger.info("BEFORE UPDATE - ID: {}, Old Details - Name: {}, Department: {}, Gender: {}, Salary: {}", 
-                   id, employee.getName(), employee.getDepartment(), employee.getGender(), employee.getSalary());
-        
-        employee.setName(employeeDetails.getName());
-        employee.setSalary(employeeDetails.getSalary());
-        employee.setDepartment(employeeDetails.getDepartment());
-        employee.setGender(employeeDetails.getGender());
-        calculateEmployeeDeductions(employee);
-        
-        Employee updated = employeeRepository.save(employee);
+        Map<Column, Object> values = new EnumMap<>(Column.class);
+        values.put(Column.NAME, employeeDetails.getName());
+        values.put(Column.DEPARTMENT, employeeDetails.getDepartment());
+        values.put(Column.GENDER, employeeDetails.getGender());
+        putSalary(values, employeeDetails.getSalary());
+        EmployeeSummary updated = updateColumns(id, values, expectedVersion, "UPDATE");
         
         logger.info("EMPLOYEE UPDATED SUCCESSFULLY - ID: {}, Name: {}, Department: {}, Gender: {}, Salary: {}, Bonus: {}, PF: {}, Tax: {}", 
-                   updated.getId(), updated.getName(), updated.getDepartment(), updated.getGender(), 
-                   updated.getSalary(), updated.getBonus(), updated.getPf(), updated.getTax());
+                   updated.id(), updated.name(), updated.department(), updated.gender(), 
+                   updated.salary(), values.get(Column.BONUS), values.get(Column.PF), values.get(Column.TAX));
         return updated;
     }
     
+    // Only the version column is read, so a conditional GET can be answered without loading the employee
+    public Optional<Long> getEmployeeVersion(Long id) {
+        return employeeRepository.findVersionById(id);
+    }
+
     public Optional<Employee> findByEmail(String email) {
-        return employeeRepository.findByEmail(email);
+        return employeeCache.getByEmail(email, this::loadDetached,
+                key -> employeeRepository.findByEmail(key).map(this::detach));
+    }
+
+    // Served from the in-memory name index; no query reaches the database
+    public List<EmployeeSummary> searchByName(String query, EmployeeNameIndex.Mode mode, Integer limit) {
+        int resultSize = resolvePageSize(limit);
+        long started = System.nanoTime();
+        List<EmployeeSummary> matches = employeeIndexes.resolve(employeeNameIndex.search(query, mode, resultSize));
+        logger.info("NAME SEARCH - Query: '{}', Mode: {}, {} MATCHES - {} us",
+                   query, mode, matches.size(), (System.nanoTime() - started) / 1_000);
+        return matches;
+    }
+
+    // Salary-ordered reads from the in-memory salary index; no query reaches the database
+    public List<EmployeeSummary> findBySalaryRange(Double minSalary, Double maxSalary, String department,
+                                                   EmployeeSalaryIndex.Order order, Integer limit) {
+        int resultSize = resolvePageSize(limit);
+        long started = System.nanoTime();
+        List<EmployeeSummary> employees = employeeIndexes.resolve(
+                employeeSalaryIndex.range(minSalary, maxSalary, department, order, resultSize));
+        logger.info("SALARY RANGE - Min: {}, Max: {}, Department: {}, Order: {}, {} EMPLOYEES - {} us",
+                   minSalary, maxSalary, department, order, employees.size(), (System.nanoTime() - started) / 1_000);
+        return employees;
+    }
+
+    public List<EmployeeSummary> getTopEarners(String department, Integer limit) {
+        int resultSize = resolvePageSize(limit);
+        long started = System.nanoTime();
+        List<EmployeeSummary> employees = employeeIndexes.resolve(employeeSalaryIndex.top(department, resultSize));
+        logger.info("TOP EARNERS - Department: {}, {} EMPLOYEES - {} us",
+                   department, employees.size(), (System.nanoTime() - started) / 1_000);
+        return employees;
+    }
+
+    public Map<String, Object> getCacheStatistics() {
+        return employeeCache.getStatistics();
+    }
+
+    // Cached entities are shared across requests, so they must not stay attached to one request's persistence context
+    private Optional<Employee> loadDetached(Long id) {
+        return employeeRepository.findById(id).map(this::detach);
+    }
+
+    private Employee detach(Employee employee) {
+        entityManager.detach(employee);
+        return employee;
     }
     
 
-    public List<Employee> findByDepartmentAndGender(String department, String gender) {
-        return employeeRepository.findByDepartmentAndGender(department, gender);
+    public EmployeePage findByDepartmentAndGender(String department, String gender, Long after, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        return toPage(employeeIndexes.resolve(employeeBitmapIndex.page(department, gender, after, pageSize + 1)), pageSize);
+    }
+
+    // Counts are bitmap cardinalities; no rows are read
+    public long countByDepartment(String department) {
+        long count = employeeBitmapIndex.count(department, null);
+        logger.info("EMPLOYEE COUNT FOR DEPARTMENT {}: {}", department, count);
+        return count;
+    }
+
+    public long countByGender(String gender) {
+        long count = employeeBitmapIndex.count(null, gender);
+        logger.info("EMPLOYEE COUNT FOR GENDER {}: {}", gender, count);
+        return count;
+    }
+
+    public long countByDepartmentAndGender(String department, String gender) {
+        long count = employeeBitmapIndex.count(department, gender);
+        logger.info("EMPLOYEE COUNT FOR DEPARTMENT {} AND GENDER {}: {}", department, gender, count);
+        return count;
     }
     
-    public List<Employee> findBySalaryGreaterThan(Double minSalary) {
-        return employeeRepository.findBySalaryGreaterThan(minSalary);
+    public EmployeePage findBySalaryGreaterThan(Double minSalary, Long after, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        return toPage(employeeRepository.findBySalaryGreaterThanAndIdGreaterThanOrderByIdAsc(
+                minSalary, after, Limit.of(pageSize + 1)), pageSize);
     }
     
-    public List<Employee> findBySalaryBetween(Double minSalary, Double maxSalary) {
-        return employeeRepository.findBySalaryBetween(minSalary, maxSalary);
+    public EmployeePage findBySalaryBetween(Double minSalary, Double maxSalary, Long after, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        return toPage(employeeRepository.findBySalaryBetweenAndIdGreaterThanOrderByIdAsc(
+                minSalary, maxSalary, after, Limit.of(pageSize + 1)), pageSize);
+    }
+
+    public List<EmployeeStatistics> getStatisticsByDepartment() {
+        List<EmployeeStatistics> statistics = employeeRepository.aggregateByDepartment();
+        logger.info("FETCHED STATISTICS FOR {} DEPARTMENTS", statistics.size());
+        return statistics;
+    }
+
+    public List<EmployeeStatistics> getStatisticsByGender() {
+        List<EmployeeStatistics> statistics = employeeRepository.aggregateByGender();
+        logger.info("FETCHED STATISTICS FOR {} GENDERS", statistics.size());
+        return statistics;
+    }
+
+    public List<EmployeeStatistics> getStatisticsByDepartmentAndGender() {
+        List<EmployeeStatistics> statistics = employeeRepository.aggregateByDepartmentAndGender();
+        logger.info("FETCHED STATISTICS FOR {} DEPARTMENT/GENDER GROUPS", statistics.size());
+        return statistics;
+    }
+
+    // expectedVersion comes from If-Match; null means the client did not make the write conditional.
+    // An UPDATE that matched no row costs one more lookup, to tell a missing employee from a stale version.
+    private EmployeeSummary updateColumns(Long id, Map<Column, Object> values, Long expectedVersion, String operation) {
+        Optional<EmployeeSummary> updated = employeeRepository.updateColumns(id, values, expectedVersion);
+        if (updated.isEmpty()) {
+            Optional<Long> currentVersion = expectedVersion == null ? Optional.empty() : employeeRepository.findVersionById(id);
+            if (currentVersion.isEmpty()) {
+                logger.error("EMPLOYEE NOT FOUND FOR {} - ID: {}", operation, id);
+                throw new EmployeeNotFoundException("Employee not found with id: " + id);
+            }
+            logger.warn("VERSION MISMATCH - ID: {}, Expected: {}, Current: {}", id, expectedVersion, currentVersion.get());
+            throw new PreconditionFailedException("Employee " + id + " is at version "
+                    + currentVersion.get() + ", not " + expectedVersion);
+        }
+        employeeCache.evict(id);
+        employeeIndexes.put(updated.get());
+        return updated.get();
+    }
+
+    // A new salary always carries its deductions, computed under the current tax rule
+    private void putSalary(Map<Column, Object> values, Double salary) {
+        Deductions deductions = payrollCalculator.calculate(salary);
+        values.put(Column.SALARY, salary);
+        values.put(Column.BONUS, deductions.bonus());
+        values.put(Column.PF, deductions.pf());
+        values.put(Column.TAX, deductions.tax());
+        values.put(Column.TAX_RULE_VERSION, deductions.ruleVersion());
+    }
+
+    private long elapsedMillis(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
     }
 
+    // Missing or non-positive limits fall back to the default; anything above the hard maximum is clamped
+    private int resolvePageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    // Seek queries fetch one extra row so we know whether another page exists without a COUNT
+    private EmployeePage toPage(List<EmployeeSummary> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new EmployeePage(rows, null, pageSize);
+        }
+        List<EmployeeSummary> employees = new ArrayList<>(rows.subList(0, pageSize));
+        return new EmployeePage(employees, employees.get(pageSize - 1).id(), pageSize);
+    }
+
+    @Transactional
     public List<Employee> saveAllEmployees(List<@Valid Employee> employees) {
-        logger.info("BULK SAVING {} EMPLOYEES:", employees.size());
+        long started = System.nanoTime();
+        logger.info("BULK SAVING {} EMPLOYEES", employees.size());
+        if (loggingProperties.isDetail()) {
+            for (int i = 0; i < employees.size(); i++) {
+                Employee emp = employees.get(i);
+                logger.info("  EMPLOYEE {} - Name: {}, Department: {}, Gender: {}, Salary: {}", 
+                           i + 1, emp.getName(), emp.getDepartment(), emp.getGender(), emp.getSalary());
+            }
+        }
+        
+        // Flush and clear every batch so inserts go out as JDBC batches and the persistence context stays bounded
+        List<Employee> saved = new ArrayList<>(employees.size());
         for (int i = 0; i < employees.size(); i++) {
             Employee emp = employees.get(i);
-            logger.info("  EMPLOYEE {} - Name: {}, Department: {}, Gender: {}, Salary: {}", 
-                       i + 1, emp.getName(), emp.getDepartment(), emp.getGender(), emp.getSalary());
+            if (emp.getId() == null) {
+                payrollCalculator.applyDeductions(emp);
+                entityManager.persist(emp);
+                saved.add(emp);
+            } else {
+                Employee managed = entityManager.find(Employee.class, emp.getId());
+                if (managed == null) {
+                    throw new EmployeeNotFoundException("Employee not found with id: " + emp.getId());
+                }
+                copyFields(emp, managed);
+                payrollCalculator.applyDeductions(managed);
+                saved.add(managed);
+            }
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
         }
+        entityManager.flush();
+        entityManager.clear();
+        employeeCache.evict(saved.stream().map(Employee::getId).toList());
+        employeeIndexes.put(saved);
         
-        employees.forEach(this::calculateEmployeeDeductions);
-        List<Employee> saved = employeeRepository.saveAll(employees);
-        
-        logger.info("BULK SAVE COMPLETED - {} EMPLOYEES SAVED SUCCESSFULLY", saved.size());
+        logger.info("BULK SAVE COMPLETED - {} EMPLOYEES SAVED SUCCESSFULLY - {} ms", saved.size(), elapsedMillis(started));
         return saved;
     }
 
+    /**
+     * Inserts or updates each employee by email, MERGE batch by MERGE batch in one transaction, and
+     * reports per row whether it was inserted, updated or already identical. Replaying the same
+     * request therefore changes nothing and reports every row UNCHANGED. Rows are applied in order:
+     * an email repeated later in the request overwrites its earlier occurrence.
+     */
+    @Transactional
+    public List<EmployeeUpsertResult> upsertEmployees(List<@Valid Employee> employees) {
+        long started = System.nanoTime();
+        logger.info("BULK UPSERTING {} EMPLOYEES BY EMAIL", employees.size());
+        List<EmployeeUpsertResult> results = new ArrayList<>(employees.size());
+        List<Employee> batch = new ArrayList<>(Math.min(employees.size(), upsertBatchSize));
+        Set<String> emails = new HashSet<>();
+        for (Employee employee : employees) {
+            // One MERGE may not touch a row twice, so a repeated email starts the next batch
+            if (batch.size() == upsertBatchSize || emails.contains(employee.getEmail())) {
+                upsertBatch(batch, results);
+                batch.clear();
+                emails.clear();
+            }
+            payrollCalculator.applyDeductions(employee);
+            batch.add(employee);
+            emails.add(employee.getEmail());
+        }
+        upsertBatch(batch, results);
+
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (EmployeeUpsertResult result : results) {
+            counts.merge(result.status(), 1L, Long::sum);
+        }
+        logger.info("BULK UPSERT COMPLETED - {} INSERTED, {} UPDATED, {} UNCHANGED - {} ms",
+                   counts.getOrDefault(Status.INSERTED, 0L), counts.getOrDefault(Status.UPDATED, 0L),
+                   counts.getOrDefault(Status.UNCHANGED, 0L), elapsedMillis(started));
+        return results;
+    }
+
+    // The MERGE returns only the rows it wrote; ids of unchanged rows come from one lookup by email
+    private void upsertBatch(List<Employee> batch, List<EmployeeUpsertResult> results) {
+        Map<String, EmployeeUpsertResult> byEmail = new HashMap<>();
+        List<Employee> pending = batch;
+        while (!pending.isEmpty()) {
+            List<EmployeeSummary> written = employeeRepository.mergeByEmail(pending);
+            for (EmployeeSummary row : written) {
+                byEmail.put(row.email(), new EmployeeUpsertResult(row.email(), row.id(), row.version() == 0 ? Status.INSERTED : Status.UPDATED));
+            }
+            employeeCache.evict(written.stream().map(EmployeeSummary::id).toList());
+            written.forEach(employeeIndexes::put);
+            if (written.size() < pending.size()) {
+                List<String> emails = pending.stream().map(Employee::getEmail).filter(email -> !byEmail.containsKey(email)).toList();
+                for (EmployeeSummary row : employeeRepository.findByEmailIn(emails)) {
+                    byEmail.put(row.email(), new EmployeeUpsertResult(row.email(), row.id(), Status.UNCHANGED));
+                }
+            }
+            // A row the MERGE left unchanged can be deleted before the lookup sees it; merging it again inserts it
+            pending = pending.stream().filter(employee -> !byEmail.containsKey(employee.getEmail())).toList();
+            if (!pending.isEmpty()) {
+                logger.warn("UPSERT ROWS DELETED CONCURRENTLY - MERGING {} ROWS AGAIN", pending.size());
+            }
+        }
+        for (Employee employee : batch) {
+            results.add(byEmail.get(employee.getEmail()));
+        }
+    }
+
+    // The version is not part of the request body, so a row sent with an id is written through the stored
+    // entity, which carries the current version, rather than merged as a detached copy without one
+    private static void copyFields(Employee source, Employee target) {
+        target.setName(source.getName());
+        target.setEmail(source.getEmail());
+        target.setSalary(source.getSalary());
+        target.setDepartment(source.getDepartment());
+        target.setGender(source.getGender());
+    }
+
     public int getEmployeeCount() {
         logger.info("FETCHING EMPLOYEE COUNT");
         int count = (int) employeeRepository.count();
@@ -206,57 +510,64 @@ public class EmployeeService {
         return count;
     }
 
-    public void deleteAllEmployees() {
+    // A single DELETE statement in one transaction; EmployeePurgeJob deletes in batches instead
+    @Transactional
+    public int deleteAllEmployees() {
+        long started = System.nanoTime();
         logger.info("DELETING ALL EMPLOYEES");
-        long count = employeeRepository.count();
-        employeeRepository.deleteAll();
-        logger.info("ALL {} EMPLOYEES DELETED SUCCESSFULLY", count);
+        int count = employeeRepository.deleteAllRows();
+        employeeCache.evictAll();
+        employeeIndexes.clear();
+        logger.info("ALL {} EMPLOYEES DELETED SUCCESSFULLY - {} ms", count, elapsedMillis(started));
+        return count;
     }
 
-    public Employee partialUpdateEmployee(Long id, Map<String, Object> updates) {
+    // Only the fields present in the request are written, in one UPDATE ... returning the row
+    @Transactional
+    public EmployeeSummary partialUpdateEmployee(Long id, Map<String, Object> updates, Long expectedVersion) {
         logger.info("PARTIAL UPDATE EMPLOYEE - ID: {}, Updates: {}", id, updates);
         
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> {
-                    logger.error("EMPLOYEE NOT FOUND FOR PARTIAL UPDATE - ID: {}", id);
-                    return new EmployeeNotFoundException("Employee not found with id: " + id);
-                });
-        
-        // Log current state before update
-        logger.info("BEFORE PARTIAL UPDATE - ID: {}, Current - Name: {}, Department: {}, Gender: {}, Salary: {}", 
-                   id, employee.getName(), employee.getDepartment(), employee.getGender(), employee.getSalary());
-        
+        Map<Column, Object> values = new EnumMap<>(Column.class);
         updates.forEach((key, value) -> {
             switch (key) {
-                case "name" -> {
-                    employee.setName((String) value);
-                    logger.info("UPDATING NAME TO: {}", value);
-                }
-                case "salary" -> {
-                    employee.setSalary(Double.valueOf(value.toString()));
-                    logger.info("UPDATING SALARY TO: {}", value);
-                    calculateEmployeeDeductions(employee);
-                }
-                case "department" -> {
-                    employee.setDepartment((String) value);
-                    logger.info("UPDATING DEPARTMENT TO: {}", value);
-                }
-                case "gender" -> {
-                    employee.setGender((String) value);
-                    logger.info("UPDATING GENDER TO: {}", value);
-                }
+                case "name" -> values.put(Column.NAME, requireText(key, value));
+                case "salary" -> putSalary(values, requireSalary(value));
+                case "department" -> values.put(Column.DEPARTMENT, requireText(key, value));
+                case "gender" -> values.put(Column.GENDER, requireText(key, value));
                 default -> {
                     logger.error("INVALID FIELD UPDATE ATTEMPT - Field: '{}', Value: {}, Employee ID: {}", key, value, id);
-                    throw new IllegalArgumentException("Field '" + key + "' is not updatable.");
+                    throw new InvalidUpdateException("Field '" + key + "' is not updatable.");
                 }
             }
         });
+        if (values.isEmpty()) {
+            throw new InvalidUpdateException("No fields to update.");
+        }
+        EmployeeSummary saved = updateColumns(id, values, expectedVersion, "PARTIAL UPDATE");
         
-        Employee saved = employeeRepository.save(employee);
-        
-        logger.info("PARTIAL UPDATE SUCCESSFUL - ID: {}, Final - Name: {}, Department: {}, Gender: {}, Salary: {}, Bonus: {}, PF: {}, Tax: {}", 
-                   saved.getId(), saved.getName(), saved.getDepartment(), saved.getGender(), 
-                   saved.getSalary(), saved.getBonus(), saved.getPf(), saved.getTax());
+        logger.info("PARTIAL UPDATE SUCCESSFUL - ID: {}, Columns: {}, Final - Name: {}, Department: {}, Gender: {}, Salary: {}", 
+                   saved.id(), values.keySet(), saved.name(), saved.department(), saved.gender(), saved.salary());
         return saved;
     }
+
+    private static String requireText(String field, Object value) {
+        if (!(value instanceof String text) || text.isBlank()) {
+            throw new InvalidUpdateException("Field '" + field + "' must be a non-blank string.");
+        }
+        return text;
+    }
+
+    // A JSON number, or a string holding one; zero is allowed, as on create and PUT
+    private static double requireSalary(Object value) {
+        double salary;
+        try {
+            salary = value instanceof Number number ? number.doubleValue() : Double.parseDouble(String.valueOf(value));
+        } catch (NumberFormatException ex) {
+            salary = Double.NaN;
+        }
+        if (!Double.isFinite(salary) || salary < 0) {
+            throw new InvalidUpdateException("Field 'salary' must be a non-negative number.");
+        }
+        return salary;
+    }
 }
\ No newline at end of file
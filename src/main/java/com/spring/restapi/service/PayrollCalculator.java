@@ -0,0 +1,58 @@
+package com.spring.restapi.service;
+
+import com.spring.restapi.models.Employee;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes bonus, PF and tax from a salary under the current tax rules.
+ * Results are stored on the employee together with the rule version that produced them,
+ * so reads never recompute them; {@link PayrollReratingJob} catches up rows whose
+ * version is older than {@code payroll.tax-rule-version}.
+ */
+@Component
+public class PayrollCalculator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollCalculator.class);
+
+    public record Deductions(double bonus, double pf, double tax, int ruleVersion) {}
+
+    // Bump whenever the slabs or rates below change so existing rows get re-rated
+    @Value("${payroll.tax-rule-version:1}")
+    private int currentRuleVersion;
+
+    public int getCurrentRuleVersion() {
+        return currentRuleVersion;
+    }
+
+    public Deductions calculate(double salary) {
+        return new Deductions(salary * 0.10, salary * 0.12, calculateTax(salary), currentRuleVersion);
+    }
+
+    public void applyDeductions(Employee employee) {
+        logger.debug("CALCULATING DEDUCTIONS - Employee: {} (ID: {})", employee.getName(), employee.getId());
+        Deductions deductions = calculate(employee.getSalary());
+        employee.setBonus(deductions.bonus());
+        employee.setPf(deductions.pf());
+        employee.setTax(deductions.tax());
+        employee.setTaxRuleVersion(deductions.ruleVersion());
+        logger.debug("DEDUCTIONS CALCULATED - Employee: {}, Bonus: {}, PF: {}, Tax: {}, Rule Version: {}",
+                   employee.getName(), deductions.bonus(), deductions.pf(), deductions.tax(), deductions.ruleVersion());
+    }
+
+    public double calculateTax(double salary) {
+        if (salary <= 250000) {
+            return 0.0;
+        } else if (salary <= 500000) {
+            return (salary - 250000) * 0.05;
+        } else if (salary <= 1000000) {
+            return 12500 + (salary - 500000) * 0.20;
+        } else {
+            return 112500 + (salary - 1000000) * 0.30;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.spring.restapi.service;
+
+import com.spring.restapi.cache.EmployeeCache;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.PayrollCalculator.Deductions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Recomputes stored deductions for employees rated under an older tax rule version.
+ * The rule version is configuration, so it only changes across a restart, and every write rates
+ * under the current one: a single pass once the application is ready catches up all stale rows.
+ * Walks the table in id order, one batch per transaction. Each row is updated only if
+ * its salary still matches what was read, so a concurrent salary change is never overwritten.
+ */
+@Component
+public class PayrollReratingJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollReratingJob.class);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PayrollCalculator payrollCalculator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Value("${payroll.rerate.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rerateStaleEmployees() {
+        int version = payrollCalculator.getCurrentRuleVersion();
+        long started = System.nanoTime();
+        long after = 0;
+        int rerated = 0;
+        while (true) {
+            long cursor = after;
+            List<Employee> batch = transactionTemplate.execute(status -> {
+                List<Employee> stale = employeeRepository.findStalePayroll(version, cursor, Limit.of(batchSize));
+                for (Employee emp : stale) {
+                    Deductions deductions = payrollCalculator.calculate(emp.getSalary());
+                    employeeRepository.updatePayroll(emp.getId(), emp.getSalary(), deductions.bonus(),
+                            deductions.pf(), deductions.tax(), deductions.ruleVersion());
+                }
+                employeeCache.evict(stale.stream().map(Employee::getId).toList());
+                return stale;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            rerated += batch.size();
+            after = batch.get(batch.size() - 1).getId();
+        }
+        if (rerated > 0) {
+            logger.info("PAYROLL RE-RATED - {} EMPLOYEES MOVED TO TAX RULE VERSION {} IN {} ms",
+                       rerated, version, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.spring.restapi.snapshot;
+
+import com.spring.restapi.models.EmployeeSnapshotInfo;
+import com.spring.restapi.service.EmployeeIngestQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Saves the employees table to a binary file and loads it back, so a restart of the in-memory
+ * database does not start empty. With {@code employee.snapshot.enabled} the table is restored at
+ * startup, before the web server accepts requests and before the in-memory indexes load, and saved
+ * again on shutdown once the ingest queue has been flushed. {@link #snapshot()} saves on demand.
+ *
+ * The file is a fixed header (magic, format, row count) followed by one length-prefixed record per
+ * row in id order: id, version, salary, a null mask, the nullable payroll columns that are present,
+ * then name, email, department and gender as length-prefixed UTF-8. It is written sequentially
+ * through a direct buffer into a temporary file that replaces the previous snapshot only once
+ * complete, so a crash mid-write leaves the last good snapshot in place. Reads go through the same
+ * kind of buffer, or through a memory mapping of the whole file with
+ * {@code employee.snapshot.memory-mapped-read}.
+ *
+ * Restore inserts a thousand rows per statement in a single transaction, then moves the id sequence
+ * past the highest restored id. It only runs against an empty table.
+ */
+@Component
+public class EmployeeSnapshotStore implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSnapshotStore.class);
+
+    private static final int MAGIC = 0x454D5053; // "EMPS"
+    private static final short FORMAT = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Long.BYTES;
+    private static final int COUNT_OFFSET = Integer.BYTES + Short.BYTES;
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final int INSERT_BATCH_SIZE = 1_000;
+
+    private static final byte NULL_BONUS = 1;
+    private static final byte NULL_PF = 1 << 1;
+    private static final byte NULL_TAX = 1 << 2;
+    private static final byte NULL_TAX_RULE_VERSION = 1 << 3;
+
+    private static final String SELECT = "select id, version, salary, bonus, pf, tax, tax_rule_version, "
+            + "name, email, department, gender from employees order by id";
+    private static final int COLUMNS = 11;
+    // H2's TABLE() turns one array per column into rows, so each batch of rows is a single INSERT ... SELECT
+    private static final String INSERT = "insert into employees (id, version, salary, bonus, pf, tax, tax_rule_version, "
+            + "name, email, department, gender) select * from table(id bigint = ?, version bigint = ?, "
+            + "salary double precision = ?, bonus double precision = ?, pf double precision = ?, tax double precision = ?, "
+            + "tax_rule_version integer = ?, name varchar = ?, email varchar = ?, department varchar = ?, gender varchar = ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Flushed before the shutdown snapshot so rows accepted with 202 are in it
+    @Autowired
+    private EmployeeIngestQueue employeeIngestQueue;
+
+    private final Path file;
+    private final boolean enabled;
+    private final boolean memoryMappedRead;
+    private volatile boolean restoreFailed;
+
+    public EmployeeSnapshotStore(@Value("${employee.snapshot.file:data/employees.snapshot}") Path file,
+                                 @Value("${employee.snapshot.enabled:false}") boolean enabled,
+                                 @Value("${employee.snapshot.memory-mapped-read:false}") boolean memoryMappedRead) {
+        this.file = file.toAbsolutePath();
+        this.enabled = enabled;
+        this.memoryMappedRead = memoryMappedRead;
+        logger.info("EMPLOYEE SNAPSHOT CONFIGURED - File: {}, Restore And Save Automatically: {}, Memory-Mapped Read: {}",
+                   this.file, enabled, memoryMappedRead);
+    }
+
+    // The transaction manager this depends on has built the schema by now. Every afterPropertiesSet runs
+    // before any afterSingletonsInstantiated, so EmployeeIndexes loads the restored rows, and both finish
+    // before the web server starts
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            restore(memoryMappedRead);
+        } catch (IOException | RuntimeException e) {
+            // Starting empty is better than not starting, but then the shutdown snapshot must not overwrite the file
+            restoreFailed = true;
+            logger.error("EMPLOYEE SNAPSHOT RESTORE FAILED - STARTING EMPTY, SHUTDOWN SNAPSHOT DISABLED - File: {}", file, e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        if (restoreFailed) {
+            logger.warn("SKIPPING SHUTDOWN SNAPSHOT - THE SNAPSHOT AT {} COULD NOT BE RESTORED AND IS KEPT", file);
+            return;
+        }
+        employeeIngestQueue.shutdown();
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            logger.error("SHUTDOWN SNAPSHOT FAILED - File: {}", file, e);
+        }
+    }
+
+    public synchronized EmployeeSnapshotInfo snapshot() throws IOException {
+        long started = System.nanoTime();
+        logger.info("WRITING EMPLOYEE SNAPSHOT - File: {}", file);
+        Files.createDirectories(file.getParent());
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        long rows;
+        long bytes;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+            buffer.putInt(MAGIC).putShort(FORMAT).putLong(0L);
+            long[] count = new long[1];
+            jdbcTemplate.query(SELECT, row -> {
+                try {
+                    writeRow(row, buffer, channel);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+            flush(buffer, channel);
+            rows = count[0];
+            // The row count is only known at the end; patch it into the header
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, rows), COUNT_OFFSET);
+            channel.force(true);
+            bytes = channel.size();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        long millis = elapsedMillis(started);
+        logger.info("EMPLOYEE SNAPSHOT WRITTEN - {} ROWS, {} BYTES TO {} IN {} ms", rows, bytes, file, millis);
+        return new EmployeeSnapshotInfo(file.toString(), rows, bytes, millis, rowsPerSecond(rows, millis));
+    }
+
+    /**
+     * Loads the snapshot into the employees table. Empty if there is no snapshot file or the table
+     * already has rows. Meant for startup: the cache and the in-memory indexes are not updated.
+     */
+    public synchronized Optional<EmployeeSnapshotInfo> restore(boolean memoryMapped) throws IOException {
+        if (!Files.exists(file)) {
+            logger.info("NO EMPLOYEE SNAPSHOT TO RESTORE - File: {}", file);
+            return Optional.empty();
+        }
+        Integer existing = jdbcTemplate.queryForObject("select count(*) from employees", Integer.class);
+        if (existing != null && existing > 0) {
+            logger.warn("EMPLOYEE SNAPSHOT NOT RESTORED - TABLE ALREADY HAS {} ROWS", existing);
+            return Optional.empty();
+        }
+        long started = System.nanoTime();
+        logger.info("RESTORING EMPLOYEE SNAPSHOT - File: {}, Memory-Mapped: {}", file, memoryMapped);
+        long rows;
+        long bytes;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            bytes = channel.size();
+            SnapshotReader reader = memoryMapped && bytes <= Integer.MAX_VALUE
+                    ? new SnapshotReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes), null)
+                    : new SnapshotReader(ByteBuffer.allocateDirect(BUFFER_BYTES).flip(), channel);
+            rows = transactionTemplate.execute(status -> load(reader));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        long millis = elapsedMillis(started);
+        EmployeeSnapshotInfo info = new EmployeeSnapshotInfo(file.toString(), rows, bytes, millis, rowsPerSecond(rows, millis));
+        logger.info("EMPLOYEE SNAPSHOT RESTORED - {} ROWS, {} BYTES IN {} ms ({} ROWS/S)", rows, bytes, millis, info.rowsPerSecond());
+        return Optional.of(info);
+    }
+
+    private long load(SnapshotReader reader) {
+        try {
+            ByteBuffer header = reader.require(HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getShort() != FORMAT) {
+                throw new IllegalStateException("Not an employee snapshot, or written in another format: " + file);
+            }
+            long expected = header.getLong();
+            long rows = 0;
+            long maxId = 0;
+            Object[][] batch = new Object[COLUMNS][INSERT_BATCH_SIZE];
+            int filled = 0;
+            while (rows < expected) {
+                readRow(reader, batch, filled);
+                maxId = Math.max(maxId, (Long) batch[0][filled]);
+                rows++;
+                if (++filled == INSERT_BATCH_SIZE) {
+                    jdbcTemplate.update(INSERT, (Object[]) batch);
+                    filled = 0;
+                }
+            }
+            if (filled > 0) {
+                for (int column = 0; column < COLUMNS; column++) {
+                    batch[column] = Arrays.copyOf(batch[column], filled);
+                }
+                jdbcTemplate.update(INSERT, (Object[]) batch);
+            }
+            // Hibernate allocates ids from this sequence; without the restart new employees would reuse restored ids
+            jdbcTemplate.execute("alter sequence employee_seq restart with " + (maxId + 1));
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeRow(ResultSet row, ByteBuffer buffer, FileChannel channel) throws SQLException, IOException {
+        byte[] name = utf8(row.getString("name"));
+        byte[] email = utf8(row.getString("email"));
+        byte[] department = utf8(row.getString("department"));
+        byte[] gender = utf8(row.getString("gender"));
+        double bonus = row.getDouble("bonus");
+        byte nulls = row.wasNull() ? NULL_BONUS : 0;
+        double pf = row.getDouble("pf");
+        nulls |= row.wasNull() ? NULL_PF : 0;
+        double tax = row.getDouble("tax");
+        nulls |= row.wasNull() ? NULL_TAX : 0;
+        int taxRuleVersion = row.getInt("tax_rule_version");
+        nulls |= row.wasNull() ? NULL_TAX_RULE_VERSION : 0;
+
+        int length = 3 * Long.BYTES + 1
+                + ((nulls & NULL_BONUS) == 0 ? Double.BYTES : 0)
+                + ((nulls & NULL_PF) == 0 ? Double.BYTES : 0)
+                + ((nulls & NULL_TAX) == 0 ? Double.BYTES : 0)
+                + ((nulls & NULL_TAX_RULE_VERSION) == 0 ? Integer.BYTES : 0)
+                + 4 * Short.BYTES + name.length + email.length + department.length + gender.length;
+        if (buffer.remaining() < Integer.BYTES + length) {
+            flush(buffer, channel);
+        }
+        buffer.putInt(length)
+                .putLong(row.getLong("id"))
+                .putLong(row.getLong("version"))
+                .putDouble(row.getDouble("salary"))
+                .put(nulls);
+        if ((nulls & NULL_BONUS) == 0) {
+            buffer.putDouble(bonus);
+        }
+        if ((nulls & NULL_PF) == 0) {
+            buffer.putDouble(pf);
+        }
+        if ((nulls & NULL_TAX) == 0) {
+            buffer.putDouble(tax);
+        }
+        if ((nulls & NULL_TAX_RULE_VERSION) == 0) {
+            buffer.putInt(taxRuleVersion);
+        }
+        putString(buffer, name);
+        putString(buffer, email);
+        putString(buffer, department);
+        putString(buffer, gender);
+    }
+
+    // Decodes the next record into slot i of the per-column arrays, in INSERT's column order
+    private static void readRow(SnapshotReader reader, Object[][] columns, int i) throws IOException {
+        int length = reader.require(Integer.BYTES).getInt();
+        ByteBuffer buffer = reader.require(length);
+        columns[0][i] = buffer.getLong();
+        columns[1][i] = buffer.getLong();
+        columns[2][i] = buffer.getDouble();
+        byte nulls = buffer.get();
+        columns[3][i] = (nulls & NULL_BONUS) == 0 ? buffer.getDouble() : null;
+        columns[4][i] = (nulls & NULL_PF) == 0 ? buffer.getDouble() : null;
+        columns[5][i] = (nulls & NULL_TAX) == 0 ? buffer.getDouble() : null;
+        columns[6][i] = (nulls & NULL_TAX_RULE_VERSION) == 0 ? buffer.getInt() : null;
+        for (int column = 7; column < COLUMNS; column++) {
+            byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(bytes);
+            columns[column][i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static long elapsedMillis(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+
+    private static long rowsPerSecond(long rows, long millis) {
+        return millis == 0 ? rows : rows * 1_000 / millis;
+    }
+
+    /**
+     * Hands out the buffer positioned at the next {@code bytes} bytes of the file. A mapped file is
+     * one buffer over everything; otherwise the buffer is refilled from the channel whenever it runs low.
+     */
+    private record SnapshotReader(ByteBuffer buffer, FileChannel channel) {
+
+        ByteBuffer require(int bytes) throws IOException {
+            if (buffer.remaining() < bytes && channel != null) {
+                if (bytes > buffer.capacity()) {
+                    throw new IOException("Snapshot record of " + bytes + " bytes is larger than the read buffer");
+                }
+                buffer.compact();
+                while (buffer.position() < bytes) {
+                    if (channel.read(buffer) < 0) {
+                        break;
+                    }
+                }
+                buffer.flip();
+            }
+            if (buffer.remaining() < bytes) {
+                throw new IOException("Snapshot file is truncated");
+            }
+            return buffer;
+        }
+    }
+}
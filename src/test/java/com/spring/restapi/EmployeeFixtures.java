@@ -0,0 +1,37 @@
+package com.spring.restapi;
+
+import com.spring.restapi.models.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generated employees shared by tests, load harnesses and benchmarks. Row {@code n} is always the
+ * same row: department and gender cycle with it, and so does the default salary.
+ */
+public final class EmployeeFixtures {
+
+    public static final List<String> DEPARTMENTS = List.of("IT", "HR", "Finance");
+    public static final List<String> GENDERS = List.of("Male", "Female");
+
+    private EmployeeFixtures() {}
+
+    // Unsaved, without an id; the prefix keeps emails unique between runs that share a table
+    public static Employee employee(String emailPrefix, long n, double salary) {
+        return new Employee("Employee " + n, emailPrefix + n + "@example.com", salary,
+                DEPARTMENTS.get((int) (n % DEPARTMENTS.size())), GENDERS.get((int) (n % GENDERS.size())));
+    }
+
+    // Salaries from 200,000 to 1,199,000, which reaches all four tax slabs
+    public static Employee employee(String emailPrefix, long n) {
+        return employee(emailPrefix, n, 200_000.0 + (n % 1_000) * 1_000);
+    }
+
+    public static List<Employee> employees(String emailPrefix, int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(employee(emailPrefix, i));
+        }
+        return employees;
+    }
+}
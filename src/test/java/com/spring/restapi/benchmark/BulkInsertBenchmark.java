@@ -0,0 +1,95 @@
+package com.spring.restapi.benchmark;
+
+import com.spring.restapi.EmployeeFixtures;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.EmployeeService;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Compares bulk insert throughput with and without JDBC batching.
+ * Both runs go through {@link EmployeeService#saveAllEmployees}; the "unbatched" run forces a
+ * JDBC batch size of 1 on the session, which is what the old IDENTITY-based mapping amounted to.
+ *
+ * Not part of the regular test run; execute with {@code mvn test -Dtest=BulkInsertBenchmark}.
+ */
+@SpringBootTest(properties = {
+        "logging.level.com.spring.restapi=WARN",
+        "logging.level.com.spring.restapi.controller=WARN",
+        "logging.level.com.spring.restapi.service=WARN",
+        "logging.level.com.spring.restapi.repository=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "spring.jpa.show-sql=false"
+})
+class BulkInsertBenchmark {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000})
+    void bulkInsertThroughput(int rows) {
+        // Warm up both paths so the first measured run does not pay for JIT compilation
+        insertUnbatched(employees(2_000, "warmup-unbatched"));
+        insertBatched(employees(2_000, "warmup-batched"));
+        employeeRepository.deleteAllInBatch();
+
+        long nanos = insertUnbatched(employees(rows, "unbatched"));
+        report("unbatched", rows, nanos);
+        employeeRepository.deleteAllInBatch();
+
+        nanos = insertBatched(employees(rows, "batched"));
+        report("batched", rows, nanos);
+    }
+
+    private long insertUnbatched(List<Employee> employees) {
+        long started = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+            employeeService.saveAllEmployees(employees);
+        });
+        return System.nanoTime() - started;
+    }
+
+    private long insertBatched(List<Employee> employees) {
+        long started = System.nanoTime();
+        employeeService.saveAllEmployees(employees);
+        return System.nanoTime() - started;
+    }
+
+    private List<Employee> employees(int rows, String run) {
+        return EmployeeFixtures.employees(run, rows);
+    }
+
+    private void report(String run, int rows, long nanos) {
+        double seconds = nanos / 1_000_000_000.0;
+        System.out.printf("BENCHMARK bulk-insert %-9s rows=%d time=%.2fs rows/sec=%.0f%n",
+                run, rows, seconds, rows / seconds);
+    }
+}
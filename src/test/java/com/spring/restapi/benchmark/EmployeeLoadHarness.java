@@ -0,0 +1,342 @@
+package com.spring.restapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.spring.restapi.EmployeeFixtures;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.EmployeeService;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process load test of the full Undertow + Spring MVC + Hibernate + H2 stack.
+ * Starts the application on a random port, seeds employees, drives a weighted mix of
+ * requests over HTTP and writes throughput, latency percentiles and error counts as JSON.
+ *
+ * Two load models:
+ * <ul>
+ *   <li>{@code closed} - {@code load.concurrency} clients, each sending its next request as soon as
+ *       the previous one completes.</li>
+ *   <li>{@code open} - requests are issued at a fixed {@code load.rate} per second regardless of how
+ *       fast responses come back. Latency is measured from the scheduled send time, so queueing
+ *       inside the server is not hidden (no coordinated omission).</li>
+ * </ul>
+ *
+ * Adding {@code reactive_get} or {@code reactive_department} to {@code load.mix} drives the R2DBC endpoints
+ * instead, so the blocking and reactive paths can be compared under the same load; the report's
+ * {@code resources} section records live and peak thread counts and heap use for that comparison.
+ *
+ * Not part of the regular test run; execute with e.g.
+ * {@code mvn test -Dtest=EmployeeLoadHarness -Dload.mode=open -Dload.rate=500 -Dload.mix=get:80,patch:20}.
+ * All settings are system properties, see the constants below for names and defaults.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EmployeeLoadHarness {
+
+    private static final int SEED = Integer.getInteger("load.seed", 10_000);
+    private static final String MODE = System.getProperty("load.mode", "closed");
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 16);
+    private static final int RATE = Integer.getInteger("load.rate", 500);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    private static final String MIX = System.getProperty("load.mix", "get:70,department:20,bulk:5,patch:5");
+    private static final int BULK_SIZE = Integer.getInteger("load.bulk-size", 50);
+    private static final int PAGE_SIZE = Integer.getInteger("load.page-size", 100);
+    // GET, PATCH and REACTIVE_GET pick ids from the first HOT_SET seeded employees; 0 spreads them over all of them
+    private static final int HOT_SET = Integer.getInteger("load.hot-set", 0);
+    private static final Path REPORT = Path.of(System.getProperty("load.report", "target/load-report.json"));
+
+    // Latencies above this are clamped; 60 s in microseconds
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    // REACTIVE_* hit /api/reactive/employees; the department stream is limited to PAGE_SIZE rows like DEPARTMENT
+    enum Operation { GET, DEPARTMENT, BULK, PATCH, REACTIVE_GET, REACTIVE_DEPARTMENT }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newCachedThreadPool())
+            .build();
+
+    private final AtomicLong emailSequence = new AtomicLong();
+    private final Map<Operation, Stats> stats = new LinkedHashMap<>();
+    private Operation[] weightedMix;
+    private long firstId;
+    private long lastId;
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void runLoad() throws Exception {
+        weightedMix = parseMix(MIX);
+        seed();
+
+        run(WARMUP);
+        stats.values().forEach(Stats::reset);
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+
+        long started = System.nanoTime();
+        run(DURATION);
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Map<String, Object> report = report(seconds);
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(REPORT.toFile(), report);
+        System.out.println("LOAD REPORT " + REPORT.toAbsolutePath());
+        System.out.println(mapper.writeValueAsString(report));
+    }
+
+    private void seed() {
+        List<Employee> batch = new ArrayList<>(1_000);
+        for (int i = 0; i < SEED; i++) {
+            batch.add(newEmployee("seed"));
+            if (batch.size() == 1_000 || i == SEED - 1) {
+                List<Employee> saved = employeeService.saveAllEmployees(batch);
+                if (firstId == 0) {
+                    firstId = saved.get(0).getId();
+                }
+                lastId = saved.get(saved.size() - 1).getId();
+                batch = new ArrayList<>(1_000);
+            }
+        }
+    }
+
+    private void run(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        if ("open".equalsIgnoreCase(MODE)) {
+            runOpenLoop(deadline);
+        } else {
+            runClosedLoop(deadline);
+        }
+    }
+
+    private void runClosedLoop(long deadline) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    Operation operation = nextOperation();
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request(operation), HttpResponse.BodyHandlers.discarding());
+                        record(operation, sent, response.statusCode());
+                    } catch (Exception e) {
+                        record(operation, sent, -1);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.HOURS);
+    }
+
+    private void runOpenLoop(long deadline) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long next = System.nanoTime();
+        ConcurrentLinkedQueue<CompletableFuture<?>> inFlight = new ConcurrentLinkedQueue<>();
+        while (next < deadline) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = nextOperation();
+            long scheduled = next;
+            inFlight.add(client.sendAsync(request(operation), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        record(operation, scheduled, error == null ? response.statusCode() : -1);
+                        return null;
+                    }));
+            inFlight.removeIf(CompletableFuture::isDone);
+            next += intervalNanos;
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String base = "http://localhost:" + port + "/api/employees";
+        String reactiveBase = "http://localhost:" + port + "/api/reactive/employees";
+        return switch (operation) {
+            case GET -> HttpRequest.newBuilder(URI.create(base + "/" + randomId())).GET().build();
+            case DEPARTMENT -> HttpRequest.newBuilder(URI.create(base + "/department/"
+                    + EmployeeFixtures.DEPARTMENTS.get(random.nextInt(EmployeeFixtures.DEPARTMENTS.size())) + "?limit=" + PAGE_SIZE)).GET().build();
+            case BULK -> HttpRequest.newBuilder(URI.create(base + "/bulk"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(bulkPayload())).build();
+            case PATCH -> HttpRequest.newBuilder(URI.create(base + "/" + randomId()))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                            "{\"salary\":" + random.nextInt(200_000, 2_000_000) + "}")).build();
+            case REACTIVE_GET -> HttpRequest.newBuilder(URI.create(reactiveBase + "/" + randomId())).GET().build();
+            case REACTIVE_DEPARTMENT -> HttpRequest.newBuilder(URI.create(reactiveBase + "/department/"
+                    + EmployeeFixtures.DEPARTMENTS.get(random.nextInt(EmployeeFixtures.DEPARTMENTS.size())) + "?limit=" + PAGE_SIZE))
+                    .header("Accept", "application/x-ndjson").GET().build();
+        };
+    }
+
+    private void record(Operation operation, long startedNanos, int status) {
+        long micros = Math.min((System.nanoTime() - startedNanos) / 1_000, MAX_LATENCY_MICROS);
+        stats.get(operation).record(micros, status >= 200 && status < 300);
+    }
+
+    private long randomId() {
+        long last = HOT_SET > 0 ? Math.min(lastId, firstId + HOT_SET - 1) : lastId;
+        return ThreadLocalRandom.current().nextLong(firstId, last + 1);
+    }
+
+    private Operation nextOperation() {
+        return weightedMix[ThreadLocalRandom.current().nextInt(weightedMix.length)];
+    }
+
+    // "get:70,department:20,bulk:5,patch:5" -> 100-slot array sampled uniformly
+    private Operation[] parseMix(String mix) {
+        List<Operation> slots = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split(":");
+            Operation operation = Operation.valueOf(entry[0].trim().toUpperCase());
+            stats.put(operation, new Stats());
+            for (int i = 0; i < Integer.parseInt(entry[1].trim()); i++) {
+                slots.add(operation);
+            }
+        }
+        if (slots.isEmpty()) {
+            throw new IllegalArgumentException("load.mix has no weighted operations: " + mix);
+        }
+        return slots.toArray(Operation[]::new);
+    }
+
+    private String bulkPayload() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < BULK_SIZE; i++) {
+            Employee emp = newEmployee("load");
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"").append(emp.getName())
+                .append("\",\"email\":\"").append(emp.getEmail())
+                .append("\",\"salary\":").append(emp.getSalary())
+                .append(",\"department\":\"").append(emp.getDepartment())
+                .append("\",\"gender\":\"").append(emp.getGender()).append("\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    private Employee newEmployee(String prefix) {
+        long n = emailSequence.incrementAndGet();
+        return EmployeeFixtures.employee(prefix, n, ThreadLocalRandom.current().nextInt(200_000, 2_000_000));
+    }
+
+    private Map<String, Object> report(double seconds) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("mode", MODE);
+        config.put("concurrency", "open".equalsIgnoreCase(MODE) ? null : CONCURRENCY);
+        config.put("targetRate", "open".equalsIgnoreCase(MODE) ? RATE : null);
+        config.put("seededEmployees", SEED);
+        config.put("mix", MIX);
+        config.put("bulkSize", BULK_SIZE);
+        config.put("pageSize", PAGE_SIZE);
+        config.put("hotSet", HOT_SET);
+        config.put("warmupSeconds", WARMUP.toSeconds());
+
+        Histogram total = new Histogram(MAX_LATENCY_MICROS, 3);
+        long errors = 0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().recorder.getIntervalHistogram();
+            long opErrors = entry.getValue().errors.sum();
+            operations.put(entry.getKey().name().toLowerCase(), summary(histogram, opErrors, seconds));
+            total.add(histogram);
+            errors += opErrors;
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("durationSeconds", seconds);
+        report.put("total", summary(total, errors, seconds));
+        report.put("operations", operations);
+        report.put("resources", resources());
+        return report;
+    }
+
+    // Client and server share this JVM, so compare runs with the same mode and concurrency
+    private Map<String, Object> resources() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Map<String, Object> resources = new LinkedHashMap<>();
+        resources.put("liveThreads", threads.getThreadCount());
+        resources.put("peakThreads", threads.getPeakThreadCount());
+        resources.put("heapUsedMb", ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024 * 1024));
+        return resources;
+    }
+
+    private Map<String, Object> summary(Histogram histogram, long errors, double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", histogram.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", histogram.getTotalCount() / seconds);
+        summary.put("p50Ms", histogram.getValueAtPercentile(50) / 1_000.0);
+        summary.put("p99Ms", histogram.getValueAtPercentile(99) / 1_000.0);
+        summary.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1_000.0);
+        summary.put("maxMs", histogram.getMaxValue() / 1_000.0);
+        return summary;
+    }
+
+    private static final class Stats {
+        private final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        void record(long micros, boolean success) {
+            recorder.recordValue(micros);
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        void reset() {
+            recorder.reset();
+            errors.reset();
+        }
+    }
+}
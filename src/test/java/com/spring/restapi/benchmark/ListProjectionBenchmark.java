@@ -0,0 +1,133 @@
+package com.spring.restapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.restapi.EmployeeFixtures;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeeSummary;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.EmployeeService;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Compares the old list path (managed {@link Employee} entities) with the {@link EmployeeSummary}
+ * projection the list endpoints use now. For each path it loads ROWS employees inside a transaction,
+ * as a request with open-in-view would, and reports the heap retained while the result and the
+ * persistence context are alive, plus the time to load and to serialize the rows with the
+ * application's ObjectMapper.
+ *
+ * Not part of the regular test run; execute with {@code mvn test -Dtest=ListProjectionBenchmark}.
+ */
+@SpringBootTest(properties = {
+        "logging.level.com.spring.restapi=WARN",
+        "spring.jpa.show-sql=false"
+})
+class ListProjectionBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void heapAndSerialization() {
+        seed();
+
+        // Warm up both paths so neither run pays for JIT compilation or first-query planning
+        for (int i = 0; i < 2; i++) {
+            measure("warmup-entity", this::loadEntities, false);
+            measure("warmup-summary", this::loadSummaries, false);
+        }
+        measure("entity", this::loadEntities, true);
+        measure("summary", this::loadSummaries, true);
+    }
+
+    private List<Employee> loadEntities() {
+        return entityManager.createQuery("select e from Employee e where e.id > :after order by e.id", Employee.class)
+                .setParameter("after", 0L)
+                .setMaxResults(ROWS)
+                .getResultList();
+    }
+
+    private List<EmployeeSummary> loadSummaries() {
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(ROWS));
+    }
+
+    private void measure(String run, Supplier<List<?>> loader, boolean report) {
+        transactionTemplate.executeWithoutResult(status -> {
+            long before = usedHeapAfterGc();
+            long started = System.nanoTime();
+            List<?> rows = loader.get();
+            long loadNanos = System.nanoTime() - started;
+            long retained = usedHeapAfterGc() - before;
+
+            long serializeNanos = Long.MAX_VALUE;
+            int bytes = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                started = System.nanoTime();
+                try {
+                    bytes = objectMapper.writeValueAsBytes(rows).length;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                serializeNanos = Math.min(serializeNanos, System.nanoTime() - started);
+            }
+            if (report) {
+                System.out.printf("BENCHMARK list-projection %-7s rows=%d retainedHeap=%.1fMB bytesPerRow=%d load=%dms serialize=%dms json=%.1fMB%n",
+                        run, rows.size(), retained / 1_048_576.0, retained / rows.size(),
+                        loadNanos / 1_000_000, serializeNanos / 1_000_000, bytes / 1_048_576.0);
+            }
+            entityManager.clear();
+        });
+    }
+
+    private long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private void seed() {
+        List<Employee> batch = new ArrayList<>(1_000);
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(EmployeeFixtures.employee("projection", i));
+            if (batch.size() == 1_000) {
+                employeeService.saveAllEmployees(batch);
+                batch = new ArrayList<>(1_000);
+            }
+        }
+    }
+}
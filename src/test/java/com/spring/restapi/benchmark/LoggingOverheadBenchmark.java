@@ -0,0 +1,133 @@
+package com.spring.restapi.benchmark;
+
+import com.spring.restapi.EmployeeFixtures;
+import com.spring.restapi.config.LoggingProperties;
+import com.spring.restapi.config.LoggingProperties.Mode;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.EmployeeService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Measures how much latency application logging adds to each employee endpoint.
+ * Every endpoint is timed with application logging switched off, in SUMMARY mode and in DETAIL mode;
+ * the reported overhead is the difference from the logging-off baseline.
+ *
+ * Not part of the regular test run; execute with {@code mvn test -Dtest=LoggingOverheadBenchmark}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class LoggingOverheadBenchmark {
+
+    private static final int SEED_ROWS = 5_000;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+    private static final int BULK_ROWS = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private LoggingProperties loggingProperties;
+
+    @Autowired
+    private LoggingSystem loggingSystem;
+
+    private final AtomicInteger emailSequence = new AtomicInteger();
+
+    @AfterEach
+    void cleanUp() {
+        loggingSystem.setLogLevel("com.spring.restapi", LogLevel.INFO);
+        loggingProperties.setMode(Mode.SUMMARY);
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void loggingLatencyPerEndpoint() throws Exception {
+        List<Employee> seed = new ArrayList<>(SEED_ROWS);
+        for (int i = 0; i < SEED_ROWS; i++) {
+            seed.add(employee("seed"));
+        }
+        Long firstId = employeeService.saveAllEmployees(seed).get(0).getId();
+
+        Map<String, Supplier<RequestBuilder>> endpoints = new LinkedHashMap<>();
+        endpoints.put("GET /api/employees?limit=1000", () -> get("/api/employees").param("limit", "1000"));
+        endpoints.put("GET /department/IT?limit=1000", () -> get("/api/employees/department/IT").param("limit", "1000"));
+        endpoints.put("GET /gender/Female?limit=1000", () -> get("/api/employees/gender/Female").param("limit", "1000"));
+        endpoints.put("GET /{id}", () -> get("/api/employees/" + firstId));
+        endpoints.put("POST /bulk (" + BULK_ROWS + " rows)", () -> post("/api/employees/bulk")
+                .contentType(MediaType.APPLICATION_JSON).content(bulkPayload()));
+
+        for (Map.Entry<String, Supplier<RequestBuilder>> endpoint : endpoints.entrySet()) {
+            // discarded pass so JIT warm-up is not charged to whichever mode runs first
+            measure(endpoint.getValue(), Mode.DETAIL);
+            double off = measure(endpoint.getValue(), null);
+            double summary = measure(endpoint.getValue(), Mode.SUMMARY);
+            double detail = measure(endpoint.getValue(), Mode.DETAIL);
+            System.out.printf("BENCHMARK logging %-32s off=%.3fms summary=%.3fms (+%.3f) detail=%.3fms (+%.3f)%n",
+                    endpoint.getKey(), off, summary, summary - off, detail, detail - off);
+        }
+    }
+
+    // mode == null runs with application logging switched off entirely
+    private double measure(Supplier<RequestBuilder> request, Mode mode) throws Exception {
+        loggingSystem.setLogLevel("com.spring.restapi", mode == null ? LogLevel.OFF : LogLevel.INFO);
+        loggingProperties.setMode(mode == null ? Mode.SUMMARY : mode);
+        for (int i = 0; i < WARMUP; i++) {
+            mockMvc.perform(request.get()).andExpect(status().is2xxSuccessful());
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mockMvc.perform(request.get()).andExpect(status().is2xxSuccessful());
+        }
+        return (System.nanoTime() - started) / 1_000_000.0 / ITERATIONS;
+    }
+
+    private String bulkPayload() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < BULK_ROWS; i++) {
+            Employee emp = employee("bulk");
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"").append(emp.getName())
+                .append("\",\"email\":\"").append(emp.getEmail())
+                .append("\",\"salary\":").append(emp.getSalary())
+                .append(",\"department\":\"").append(emp.getDepartment())
+                .append("\",\"gender\":\"").append(emp.getGender()).append("\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    private Employee employee(String prefix) {
+        int n = emailSequence.incrementAndGet();
+        return EmployeeFixtures.employee(prefix, n);
+    }
+}
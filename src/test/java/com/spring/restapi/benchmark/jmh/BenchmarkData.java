@@ -0,0 +1,64 @@
+package com.spring.restapi.benchmark.jmh;
+
+import com.spring.restapi.EmployeeFixtures;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeeSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.spring.restapi.EmployeeFixtures.DEPARTMENTS;
+import static com.spring.restapi.EmployeeFixtures.GENDERS;
+
+/**
+ * Deterministic employee fixtures so benchmark runs are comparable across machines and commits.
+ */
+final class BenchmarkData {
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Ana", "Chen", "David", "Elena", "Fatima", "Hiroshi",
+            "Ines", "James", "Kavya", "Lucas", "Maria", "Noah", "Olga", "Priya", "Rahul", "Sofia", "Tomas", "Vinit", "Yusuf"};
+    private static final String[] LAST_NAMES = {"Andersen", "Brown", "Costa", "Das", "Evans", "Fischer", "Garcia",
+            "Hassan", "Iyer", "Johnson", "Kowalski", "Lopez", "Mehta", "Nakamura", "Okafor", "Patel", "Rossi",
+            "Sahare", "Schmidt", "Tanaka", "Usman", "Varga", "Wang", "Yilmaz", "Zhang"};
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {}
+
+    static Employee employee(int n, double salary) {
+        Employee emp = EmployeeFixtures.employee("employee", n, salary);
+        emp.setId((long) n + 1);
+        return emp;
+    }
+
+    // Salaries spread across all four tax slabs (0 - 2,000,000)
+    static List<Employee> employees(int count) {
+        Random random = new Random(SEED);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(employee(i, Math.floor(random.nextDouble() * 2_000_000)));
+        }
+        return employees;
+    }
+
+    static List<EmployeeSummary> summaries(List<Employee> employees) {
+        List<EmployeeSummary> summaries = new ArrayList<>(employees.size());
+        for (Employee emp : employees) {
+            summaries.add(new EmployeeSummary(emp.getId(), emp.getName(), emp.getEmail(), emp.getSalary(),
+                    emp.getDepartment(), emp.getGender(), 0L));
+        }
+        return summaries;
+    }
+
+    // Realistic first/last name combinations for the name index; ids are 1..count
+    static List<EmployeeSummary> namedSummaries(int count) {
+        Random random = new Random(SEED);
+        List<EmployeeSummary> summaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            summaries.add(new EmployeeSummary(i + 1, name, "employee" + i + "@example.com", Math.floor(random.nextDouble() * 2_000_000),
+                    DEPARTMENTS.get(i % DEPARTMENTS.size()), GENDERS.get(i % GENDERS.size()), 0L));
+        }
+        return summaries;
+    }
+}
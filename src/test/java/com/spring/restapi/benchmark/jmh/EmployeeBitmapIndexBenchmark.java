@@ -0,0 +1,52 @@
+package com.spring.restapi.benchmark.jmh;
+
+import com.spring.restapi.index.EmployeeBitmapIndex;
+import com.spring.restapi.models.EmployeeSummary;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Department and gender filtering against the Roaring bitmap index: counts for one column and for
+ * the combination, and a 100-row keyset page of the combination starting in the middle of the ids.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeBitmapIndexBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Index {
+        @Param({"10000", "100000"})
+        int size;
+
+        EmployeeBitmapIndex bitmapIndex;
+
+        @Setup
+        public void setUp() {
+            bitmapIndex = new EmployeeBitmapIndex();
+            for (EmployeeSummary employee : BenchmarkData.namedSummaries(size)) {
+                bitmapIndex.add(employee);
+            }
+        }
+    }
+
+    @Benchmark
+    public long countDepartment(Index index) {
+        return index.bitmapIndex.count("HR", null);
+    }
+
+    @Benchmark
+    public long countDepartmentAndGender(Index index) {
+        return index.bitmapIndex.count("HR", "Female");
+    }
+
+    @Benchmark
+    public List<Long> pageDepartmentAndGender(Index index) {
+        return index.bitmapIndex.page("HR", "Female", index.size / 2, 100);
+    }
+}
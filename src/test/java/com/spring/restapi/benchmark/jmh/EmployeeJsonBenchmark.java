@@ -0,0 +1,101 @@
+package com.spring.restapi.benchmark.jmh;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeeSummary;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization and deserialization of employees, as a single object and as
+ * list payloads the size of a bulk request. List pages are serialized both as entities and as the
+ * {@link EmployeeSummary} projections the list endpoints return. Uses Spring's default ObjectMapper settings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeJsonBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Mapper {
+        ObjectWriter employeeWriter;
+        ObjectReader employeeReader;
+        ObjectWriter listWriter;
+        ObjectReader listReader;
+        ObjectWriter summaryListWriter;
+
+        @Setup
+        public void setUp() {
+            ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+            employeeWriter = mapper.writerFor(Employee.class);
+            employeeReader = mapper.readerFor(Employee.class);
+            listWriter = mapper.writerFor(new TypeReference<List<Employee>>() {});
+            listReader = mapper.readerFor(new TypeReference<List<Employee>>() {});
+            summaryListWriter = mapper.writerFor(new TypeReference<List<EmployeeSummary>>() {});
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Single {
+        Employee employee;
+        byte[] json;
+
+        @Setup
+        public void setUp(Mapper mapper) throws IOException {
+            employee = BenchmarkData.employee(1, 800_000);
+            json = mapper.employeeWriter.writeValueAsBytes(employee);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Batch {
+        @Param({"1000", "100000"})
+        int size;
+
+        List<Employee> employees;
+        List<EmployeeSummary> summaries;
+        byte[] json;
+
+        @Setup
+        public void setUp(Mapper mapper) throws IOException {
+            employees = BenchmarkData.employees(size);
+            summaries = BenchmarkData.summaries(employees);
+            json = mapper.listWriter.writeValueAsBytes(employees);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee(Mapper mapper, Single single) throws IOException {
+        return mapper.employeeWriter.writeValueAsBytes(single.employee);
+    }
+
+    @Benchmark
+    public Employee deserializeEmployee(Mapper mapper, Single single) throws IOException {
+        return mapper.employeeReader.readValue(single.json);
+    }
+
+    @Benchmark
+    public byte[] serializeList(Mapper mapper, Batch batch) throws IOException {
+        return mapper.listWriter.writeValueAsBytes(batch.employees);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryList(Mapper mapper, Batch batch) throws IOException {
+        return mapper.summaryListWriter.writeValueAsBytes(batch.summaries);
+    }
+
+    @Benchmark
+    public List<Employee> deserializeList(Mapper mapper, Batch batch) throws IOException {
+        return mapper.listReader.readValue(batch.json);
+    }
+}
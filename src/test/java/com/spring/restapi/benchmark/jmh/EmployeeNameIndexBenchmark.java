@@ -0,0 +1,55 @@
+package com.spring.restapi.benchmark.jmh;
+
+import com.spring.restapi.index.EmployeeNameIndex;
+import com.spring.restapi.models.EmployeeSummary;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Name search against the trigram index: a selective substring, a common word prefix that matches a
+ * large share of employees, and a two-character query that has no trigram and checks every name.
+ * Each search returns the 20 best-ranked ids, as the search endpoint does by default.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeNameIndexBenchmark {
+
+    private static final int LIMIT = 20;
+
+    @State(Scope.Benchmark)
+    public static class Index {
+        @Param({"10000", "100000"})
+        int size;
+
+        EmployeeNameIndex nameIndex;
+
+        @Setup
+        public void setUp() {
+            nameIndex = new EmployeeNameIndex();
+            for (EmployeeSummary employee : BenchmarkData.namedSummaries(size)) {
+                nameIndex.add(employee);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Long> selectiveSubstring(Index index) {
+        return index.nameIndex.search("it sah", EmployeeNameIndex.Mode.CONTAINS, LIMIT);
+    }
+
+    @Benchmark
+    public List<Long> commonPrefix(Index index) {
+        return index.nameIndex.search("pat", EmployeeNameIndex.Mode.PREFIX, LIMIT);
+    }
+
+    @Benchmark
+    public List<Long> shortSubstring(Index index) {
+        return index.nameIndex.search("an", EmployeeNameIndex.Mode.CONTAINS, LIMIT);
+    }
+}
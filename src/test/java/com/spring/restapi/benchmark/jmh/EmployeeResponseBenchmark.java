@@ -0,0 +1,59 @@
+package com.spring.restapi.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.restapi.models.Employee;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The body-writing step of GET /api/employees/{id}, as Spring MVC performs it: the Employee entity
+ * through the Jackson message converter, against the cached pre-encoded bytes through the byte-array
+ * converter. Everything else in the request (routing, cache lookup, headers, socket write) is the
+ * same on both paths and left out, so this is the per-hit CPU the encoded cache removes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeResponseBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Converters {
+        MappingJackson2HttpMessageConverter jsonConverter;
+        ByteArrayHttpMessageConverter bytesConverter;
+        Employee employee;
+        byte[] encoded;
+
+        @Setup
+        public void setUp() throws IOException {
+            ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+            jsonConverter = new MappingJackson2HttpMessageConverter(mapper);
+            bytesConverter = new ByteArrayHttpMessageConverter();
+            employee = BenchmarkData.employee(1, 800_000);
+            encoded = mapper.writerFor(Employee.class).writeValueAsBytes(employee);
+        }
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writeEntity(Converters converters) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converters.jsonConverter.write(converters.employee, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writeEncoded(Converters converters) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converters.bytesConverter.write(converters.encoded, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+}
@@ -0,0 +1,59 @@
+package com.spring.restapi.benchmark.jmh;
+
+import com.spring.restapi.index.EmployeeSalaryIndex;
+import com.spring.restapi.models.EmployeeSummary;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Salary-ordered reads against the skip-list salary index: a narrow range that returns a page of
+ * rows, the same range walked from the top, and the top earners overall and in one department.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeSalaryIndexBenchmark {
+
+    private static final int LIMIT = 100;
+
+    @State(Scope.Benchmark)
+    public static class Index {
+        @Param({"10000", "100000"})
+        int size;
+
+        EmployeeSalaryIndex salaryIndex;
+
+        @Setup
+        public void setUp() {
+            salaryIndex = new EmployeeSalaryIndex();
+            for (EmployeeSummary employee : BenchmarkData.namedSummaries(size)) {
+                salaryIndex.add(employee);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Long> rangeAscending(Index index) {
+        return index.salaryIndex.range(800_000.0, 1_200_000.0, null, EmployeeSalaryIndex.Order.ASC, LIMIT);
+    }
+
+    @Benchmark
+    public List<Long> rangeDescending(Index index) {
+        return index.salaryIndex.range(800_000.0, 1_200_000.0, null, EmployeeSalaryIndex.Order.DESC, LIMIT);
+    }
+
+    @Benchmark
+    public List<Long> topTen(Index index) {
+        return index.salaryIndex.top(null, 10);
+    }
+
+    @Benchmark
+    public List<Long> topTenInDepartment(Index index) {
+        return index.salaryIndex.top("HR", 10);
+    }
+}
@@ -0,0 +1,54 @@
+package com.spring.restapi.benchmark.jmh;
+
+import com.spring.restapi.models.Employee;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the Bean Validation pass behind {@code @Valid Employee}, for a valid employee
+ * and for one that violates several constraints (message interpolation included).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeValidationBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private Employee valid;
+    private Employee invalid;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        valid = BenchmarkData.employee(1, 800_000);
+        invalid = new Employee("", "not-an-email", -1.0, "IT", "");
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Employee>> validateValid() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Employee>> validateInvalid() {
+        return validator.validate(invalid);
+    }
+}
@@ -0,0 +1,51 @@
+package com.spring.restapi.benchmark.jmh;
+
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.service.PayrollCalculator;
+import com.spring.restapi.service.PayrollCalculator.Deductions;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row payroll math: tax alone, the full bonus/PF/tax computation, and applying it to an entity.
+ * Parameterised with one salary inside each tax slab.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PayrollCalculatorBenchmark {
+
+    // 0%, 5%, 20% and 30% slabs
+    @Param({"200000", "400000", "800000", "1500000"})
+    private double salary;
+
+    private PayrollCalculator calculator;
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        calculator = new PayrollCalculator();
+        employee = BenchmarkData.employee(1, salary);
+    }
+
+    @Benchmark
+    public double calculateTax() {
+        return calculator.calculateTax(salary);
+    }
+
+    @Benchmark
+    public Deductions calculate() {
+        return calculator.calculate(salary);
+    }
+
+    @Benchmark
+    public Employee applyDeductions() {
+        calculator.applyDeductions(employee);
+        return employee;
+    }
+}
@@ -0,0 +1,191 @@
+package com.spring.restapi.controller;
+
+import com.spring.restapi.cache.EmployeeCache;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeePurgeStatus;
+import com.spring.restapi.models.EmployeePurgeStatus.State;
+import com.spring.restapi.service.EmployeePurgeJob;
+import com.spring.restapi.service.EmployeeService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every write path drops the cached employee, and with it the email key, so GET /{id} and
+ * /search?email= see the write straight away. Each test warms both lookups first and checks
+ * they are served from the cache, then writes and checks the entry is gone.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmployeeCacheEvictionTests {
+
+    private static final String EMAIL = "cached@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private EmployeePurgeJob employeePurgeJob;
+
+    private Long id;
+
+    @BeforeEach
+    void seedAndWarm() throws Exception {
+        id = employeeService.saveEmployee(new Employee("Cached", EMAIL, 500_000.0, "IT", "Female")).getId();
+        mockMvc.perform(get("/api/employees/{id}", id)).andExpect(jsonPath("$.department").value("IT"));
+        mockMvc.perform(get("/api/employees/search").param("email", EMAIL)).andExpect(jsonPath("$.department").value("IT"));
+
+        assertThat(employeeCache.getById(id, key -> { throw new AssertionError("employee " + key + " not cached"); }))
+                .isPresent();
+        assertThat(employeeCache.getByEmail(EMAIL, key -> { throw new AssertionError("employee " + key + " not cached"); },
+                email -> { throw new AssertionError("email " + email + " not cached"); }))
+                .isPresent();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        employeeService.deleteAllEmployees();
+    }
+
+    @Test
+    void putEvicts() throws Exception {
+        mockMvc.perform(put("/api/employees/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(EMAIL, "HR")))
+                .andExpect(status().isOk());
+
+        assertUpdated();
+    }
+
+    @Test
+    void patchEvicts() throws Exception {
+        mockMvc.perform(patch("/api/employees/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"department\":\"HR\"}"))
+                .andExpect(status().isOk());
+
+        assertUpdated();
+    }
+
+    @Test
+    void deleteEvicts() throws Exception {
+        mockMvc.perform(delete("/api/employees/{id}", id)).andExpect(status().isOk());
+
+        assertDeleted();
+    }
+
+    @Test
+    void bulkEvicts() throws Exception {
+        mockMvc.perform(post("/api/employees/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + body("renamed@example.com", "HR").replace("{", "{\"id\":" + id + ",") + "]"))
+                .andExpect(status().isOk());
+
+        assertEmailMoved("renamed@example.com");
+    }
+
+    @Test
+    void upsertEvicts() throws Exception {
+        mockMvc.perform(post("/api/employees/upsert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + body(EMAIL, "HR") + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("UPDATED"));
+
+        assertUpdated();
+    }
+
+    @Test
+    void importMakesANewEmailFindable() throws Exception {
+        // Import only inserts: a miss must not be cached, and a row it refuses must leave the cached one valid
+        mockMvc.perform(get("/api/employees/search").param("email", "imported@example.com")).andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/employees/import")
+                        .contentType("application/x-ndjson")
+                        .content(body("imported@example.com", "HR") + "\n" + body(EMAIL, "HR")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/employees/search").param("email", "imported@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.department").value("HR"));
+        mockMvc.perform(get("/api/employees/search").param("email", EMAIL)).andExpect(jsonPath("$.department").value("IT"));
+        mockMvc.perform(get("/api/employees/{id}", id)).andExpect(jsonPath("$.department").value("IT"));
+    }
+
+    @Test
+    void purgeEvicts() throws Exception {
+        String location = mockMvc.perform(post("/api/employees/purge"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        assertThat(awaitFinished(location.substring(location.lastIndexOf('/') + 1)).state()).isEqualTo(State.COMPLETED);
+
+        assertDeleted();
+    }
+
+    private void assertUpdated() throws Exception {
+        assertEvicted();
+        mockMvc.perform(get("/api/employees/{id}", id)).andExpect(jsonPath("$.department").value("HR"));
+        mockMvc.perform(get("/api/employees/search").param("email", EMAIL)).andExpect(jsonPath("$.department").value("HR"));
+    }
+
+    private void assertEmailMoved(String email) throws Exception {
+        assertEvicted();
+        mockMvc.perform(get("/api/employees/{id}", id))
+                .andExpect(jsonPath("$.email").value(email))
+                .andExpect(jsonPath("$.department").value("HR"));
+        mockMvc.perform(get("/api/employees/search").param("email", EMAIL)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/employees/search").param("email", email)).andExpect(jsonPath("$.id").value(id));
+    }
+
+    private void assertDeleted() throws Exception {
+        assertEvicted();
+        mockMvc.perform(get("/api/employees/{id}", id)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/employees/search").param("email", EMAIL)).andExpect(status().isNotFound());
+    }
+
+    // A loader that finds nothing is only consulted on a miss
+    private void assertEvicted() {
+        assertThat(employeeCache.getById(id, key -> Optional.empty())).isEmpty();
+    }
+
+    private EmployeePurgeStatus awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        EmployeePurgeStatus status = employeePurgeJob.getStatus(jobId).orElseThrow();
+        while (status.state() == State.RUNNING) {
+            assertThat(System.nanoTime()).as("purge not finished within 10 s").isLessThan(deadline);
+            Thread.sleep(20);
+            status = employeePurgeJob.getStatus(jobId).orElseThrow();
+        }
+        return status;
+    }
+
+    private static String body(String email, String department) {
+        return "{\"name\":\"Cached\",\"email\":\"" + email + "\",\"salary\":500000,\"department\":\"" + department
+                + "\",\"gender\":\"Female\"}";
+    }
+}
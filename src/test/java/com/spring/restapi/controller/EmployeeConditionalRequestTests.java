@@ -0,0 +1,186 @@
+package com.spring.restapi.controller;
+
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.EmployeeService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETags carry the row version: GET answers If-None-Match with 304, writes return the new version,
+ * and a write whose If-Match names an older version is refused with 412. Rows sent with an id to
+ * the create and bulk endpoints update the stored row, since the version never comes from the client.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmployeeConditionalRequestTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    void seed() {
+        employee = employeeService.saveEmployee(new Employee("Conditional", "conditional@example.com", 800_000.0, "IT", "Male"));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getReturnsTheVersionAsETagAndMatchingIfNoneMatchIsNotModified() throws Exception {
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(patch("/api/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"department\":\"HR\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.department").value("HR"));
+    }
+
+    @Test
+    void listAnswersItsOwnETagWithNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        mockMvc.perform(get("/api/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch("/api/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"salary\":810000}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    void putReturnsTheNewVersionAndRejectsAStaleIfMatch() throws Exception {
+        String body = "{\"name\":\"Conditional\",\"email\":\"conditional@example.com\",\"salary\":820000,"
+                + "\"department\":\"IT\",\"gender\":\"Male\"}";
+
+        mockMvc.perform(put("/api/employees/{id}", employee.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(put("/api/employees/{id}", employee.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.replace("820000", "830000")))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(employeeRepository.findById(employee.getId())).hasValueSatisfying(row -> {
+            assertThat(row.getSalary()).isEqualTo(820_000.0);
+            assertThat(row.getVersion()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void patchReturnsTheNewVersionAndRejectsAStaleIfMatch() throws Exception {
+        mockMvc.perform(patch("/api/employees/{id}", employee.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"department\":\"HR\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(patch("/api/employees/{id}", employee.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"department\":\"Finance\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(employeeRepository.findById(employee.getId()))
+                .hasValueSatisfying(row -> assertThat(row.getDepartment()).isEqualTo("HR"));
+    }
+
+    @Test
+    void bulkRowWithAnExistingIdUpdatesTheStoredRow() throws Exception {
+        mockMvc.perform(post("/api/employees/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"id\":" + employee.getId() + ",\"name\":\"Conditional\",\"email\":\"conditional@example.com\","
+                                + "\"salary\":900000,\"department\":\"HR\",\"gender\":\"Male\"}]"))
+                .andExpect(status().is2xxSuccessful());
+
+        assertThat(employeeRepository.count()).isEqualTo(1);
+        assertThat(employeeRepository.findById(employee.getId())).hasValueSatisfying(row -> {
+            assertThat(row.getDepartment()).isEqualTo("HR");
+            assertThat(row.getSalary()).isEqualTo(900_000.0);
+            assertThat(row.getVersion()).isEqualTo(1);
+        });
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.department").value("HR"));
+    }
+
+    @Test
+    void bulkRowWithAnUnknownIdIsNotFoundAndWritesNothing() throws Exception {
+        mockMvc.perform(post("/api/employees/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\":\"New\",\"email\":\"new@example.com\",\"salary\":500000,\"department\":\"IT\",\"gender\":\"Female\"},"
+                                + "{\"id\":" + (employee.getId() + 1000) + ",\"name\":\"Ghost\",\"email\":\"ghost@example.com\","
+                                + "\"salary\":500000,\"department\":\"IT\",\"gender\":\"Female\"}]"))
+                .andExpect(status().isNotFound());
+
+        assertThat(employeeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void createWithAnExistingIdUpdatesTheStoredRow() throws Exception {
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":" + employee.getId() + ",\"name\":\"Conditional\",\"email\":\"conditional@example.com\","
+                                + "\"salary\":850000,\"department\":\"Finance\",\"gender\":\"Male\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        assertThat(employeeRepository.count()).isEqualTo(1);
+        assertThat(employeeRepository.findById(employee.getId()))
+                .hasValueSatisfying(row -> assertThat(row.getDepartment()).isEqualTo("Finance"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.spring.restapi.controller;
+
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.service.EmployeeService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts served from the bitmap index. A department outside the allowed list is a 400 wherever it
+ * appears; gender is free text, so an unknown one is a count of 0. The gender used here is unique
+ * to this class, so rows other test classes left in the shared indexes do not change the counts.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmployeeCountTests {
+
+    private static final String GENDER = "Counted";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @BeforeEach
+    void seed() {
+        employeeService.saveAllEmployees(List.of(
+                new Employee("Ada", "ada.count@example.com", 500_000.0, "IT", GENDER),
+                new Employee("Bob", "bob.count@example.com", 400_000.0, "IT", GENDER),
+                new Employee("Cy", "cy.count@example.com", 300_000.0, "HR", GENDER)));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        employeeService.deleteAllEmployees();
+    }
+
+    @Test
+    void countsByGenderAndByDepartmentAndGender() throws Exception {
+        mockMvc.perform(get("/api/employees/gender/{gender}/count", GENDER))
+                .andExpect(status().isOk())
+                .andExpect(content().string("3"));
+        mockMvc.perform(get("/api/employees/department-gender/count").param("department", "IT").param("gender", GENDER))
+                .andExpect(status().isOk())
+                .andExpect(content().string("2"));
+    }
+
+    @Test
+    void unknownGenderCountsZero() throws Exception {
+        mockMvc.perform(get("/api/employees/gender/{gender}/count", "Unlisted"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0"));
+    }
+
+    @Test
+    void departmentOutsideTheAllowedListIsABadRequest() throws Exception {
+        mockMvc.perform(get("/api/employees/department/{department}/count", "Sales"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string("Error-Info", "invalid department"));
+        mockMvc.perform(get("/api/employees/department-gender/count").param("department", "Sales").param("gender", GENDER))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string("Error-Info", "invalid department"));
+        mockMvc.perform(get("/api/employees/department-gender").param("department", "Sales").param("gender", GENDER))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string("Error-Info", "invalid department"));
+    }
+}
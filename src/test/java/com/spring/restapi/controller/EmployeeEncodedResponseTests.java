@@ -0,0 +1,90 @@
+package com.spring.restapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.EmployeeService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/employees/{id} writes cached pre-encoded bytes: they must be what the JSON converter
+ * would have written, must not outlive a write, and the API docs must still describe an Employee.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmployeeEncodedResponseTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    void seed() {
+        employee = employeeService.saveEmployee(new Employee("Encoded", "encoded@example.com", 800_000.0, "IT", "Male"));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void cachedBodyMatchesTheEntityJson() throws Exception {
+        String expected = objectMapper.writeValueAsString(employeeService.getEmployeeById(employee.getId()).orElseThrow());
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(content().json(expected, true));
+        }
+    }
+
+    @Test
+    void writeReplacesTheCachedBody() throws Exception {
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(jsonPath("$.department").value("IT"));
+
+        mockMvc.perform(patch("/api/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"department\":\"HR\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.department").value("HR"));
+    }
+
+    @Test
+    void apiDocsDescribeTheBodyAsAnEmployee() throws Exception {
+        mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paths['/api/employees/{id}'].get.responses['200'].content['application/json'].schema['$ref']")
+                        .value(endsWith("/Employee")));
+    }
+}
@@ -0,0 +1,107 @@
+package com.spring.restapi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.EmployeeService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/employees/export: NDJSON is exactly one object per line in id order, CSV quotes only the
+ * fields that need it, and what the CSV export writes the import reads back unchanged.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmployeeExportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private List<Employee> employees;
+
+    @BeforeEach
+    void seed() {
+        employees = employeeService.saveAllEmployees(List.of(
+                new Employee("Ada", "ada@example.com", 500_000.0, "IT", "Female"),
+                new Employee("Lopez, \"Ana\"", "ana@example.com", 400_000.0, "HR", "Female"),
+                new Employee("Bob\nStone", "bob@example.com", 300_000.0, "Research\r\nand Development", "Male")));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void ndjsonIsOneObjectPerLine() throws Exception {
+        String body = export("NDJSON");
+
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        for (int i = 0; i < lines.length; i++) {
+            assertThat(lines[i]).startsWith("{").endsWith("}");
+            JsonNode row = objectMapper.readTree(lines[i]);
+            assertThat(row.get("id").asLong()).isEqualTo(employees.get(i).getId());
+            assertThat(row.get("name").asText()).isEqualTo(employees.get(i).getName());
+        }
+    }
+
+    @Test
+    void csvQuotesOnlyFieldsWithDelimitersQuotesOrLineBreaks() throws Exception {
+        String body = export("CSV");
+
+        assertThat(body).startsWith("id,name,email,salary,department,gender,bonus,pf,tax\n");
+        assertThat(body).contains("\n" + employees.get(0).getId() + ",Ada,ada@example.com,500000.0,IT,Female,");
+        assertThat(body).contains("\n" + employees.get(1).getId() + ",\"Lopez, \"\"Ana\"\"\",ana@example.com,400000.0,HR,Female,");
+        assertThat(body).contains("\n" + employees.get(2).getId()
+                + ",\"Bob\nStone\",bob@example.com,300000.0,\"Research\r\nand Development\",Male,");
+        assertThat(body).endsWith("\n");
+    }
+
+    @Test
+    void csvExportImportsBackUnchanged() throws Exception {
+        String csv = export("CSV");
+        employeeRepository.deleteAllInBatch();
+
+        mockMvc.perform(post("/api/employees/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk());
+
+        assertThat(employeeRepository.findAll())
+                .extracting(Employee::getName, Employee::getEmail, Employee::getDepartment)
+                .containsExactlyInAnyOrderElementsOf(employees.stream()
+                        .map(emp -> tuple(emp.getName(), emp.getEmail(), emp.getDepartment()))
+                        .toList());
+    }
+
+    private String export(String format) throws Exception {
+        return mockMvc.perform(get("/api/employees/export").param("format", format))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
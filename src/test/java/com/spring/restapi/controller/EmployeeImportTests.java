@@ -0,0 +1,143 @@
+package com.spring.restapi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.restapi.repository.EmployeeRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /api/employees/import with a chunk size of 3: the NDJSON report framing, per-row rejection of
+ * invalid and malformed rows, a chunk the database refuses being retried row by row, and CSV records
+ * whose quoted fields span lines.
+ */
+@SpringBootTest(properties = "employee.import.chunk-size=3")
+@AutoConfigureMockMvc
+class EmployeeImportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void reportIsOneObjectPerLineEndingInASummary() throws Exception {
+        String body = mockMvc.perform(post("/api/employees/import")
+                        .contentType("application/x-ndjson")
+                        .content(row("Ada", "ada@example.com") + "\n" + row("Bob", "bob@example.com") + "\n"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).endsWith("\n");
+        for (String line : body.split("\n")) {
+            assertThat(line).startsWith("{").endsWith("}");
+        }
+        List<JsonNode> report = report(body);
+        assertThat(report).hasSize(3);
+        assertThat(report.get(0).get("row").asLong()).isEqualTo(1);
+        assertThat(report.get(0).get("status").asText()).isEqualTo("ACCEPTED");
+        assertThat(report.get(0).get("id").asLong())
+                .isEqualTo(employeeRepository.findByEmail("ada@example.com").orElseThrow().getId());
+        assertThat(report.get(1).get("row").asLong()).isEqualTo(2);
+        assertThat(report.get(2).get("status").asText()).isEqualTo("SUMMARY");
+        assertThat(report.get(2).get("rows").asLong()).isEqualTo(2);
+        assertThat(report.get(2).get("accepted").asLong()).isEqualTo(2);
+        assertThat(report.get(2).get("rejected").asLong()).isZero();
+    }
+
+    @Test
+    void invalidAndMalformedRowsAreRejectedOnTheirOwn() throws Exception {
+        List<JsonNode> report = importNdjson(
+                row("Ada", "ada@example.com"),
+                row("Bob", "not-an-email"),
+                "{\"name\":\"Cy\",",
+                row("Dee", "dee@example.com"));
+
+        assertThat(report).extracting(line -> line.get("status").asText())
+                .containsExactly("ACCEPTED", "REJECTED", "REJECTED", "ACCEPTED", "SUMMARY");
+        assertThat(report.get(1).get("reason").asText()).startsWith("email:");
+        assertThat(report.get(2).get("reason").asText()).startsWith("Malformed row:");
+        assertThat(report.get(4).get("rejected").asLong()).isEqualTo(2);
+        assertThat(employeeRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void chunkTheDatabaseRefusesIsRetriedRowByRow() throws Exception {
+        // The first chunk repeats an email, so its single INSERT batch fails; the second chunk is clean
+        List<JsonNode> report = importNdjson(
+                row("Ada", "ada@example.com"),
+                row("Bob", "bob@example.com"),
+                row("Ada Again", "ada@example.com"),
+                row("Cy", "cy@example.com"));
+
+        assertThat(report).extracting(line -> line.get("status").asText())
+                .containsExactly("ACCEPTED", "ACCEPTED", "REJECTED", "ACCEPTED", "SUMMARY");
+        assertThat(report.get(2).get("reason").asText()).startsWith("Rejected by database:");
+        assertThat(employeeRepository.count()).isEqualTo(3);
+        assertThat(employeeRepository.findByEmail("ada@example.com").orElseThrow().getName()).isEqualTo("Ada");
+    }
+
+    @Test
+    void quotedCsvFieldsMayContainCommasQuotesAndLineBreaks() throws Exception {
+        String csv = "name,email,salary,department,gender\r\n"
+                + "\"Lopez, \"\"Ana\"\"\",ana@example.com,500000,IT,Female\r\n"
+                + "\"Bob\nStone\",bob@example.com,400000,\"Research\r\nand Development\",Male\n"
+                + "Cy,cy@example.com,300000,HR,Male";
+
+        String body = mockMvc.perform(post("/api/employees/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> report = report(body);
+        assertThat(report).extracting(line -> line.get("status").asText())
+                .containsExactly("ACCEPTED", "ACCEPTED", "ACCEPTED", "SUMMARY");
+        assertThat(employeeRepository.findByEmail("ana@example.com").orElseThrow().getName()).isEqualTo("Lopez, \"Ana\"");
+        assertThat(employeeRepository.findByEmail("bob@example.com")).hasValueSatisfying(bob -> {
+            assertThat(bob.getName()).isEqualTo("Bob\nStone");
+            assertThat(bob.getDepartment()).isEqualTo("Research\r\nand Development");
+        });
+        assertThat(employeeRepository.count()).isEqualTo(3);
+    }
+
+    private List<JsonNode> importNdjson(String... rows) throws Exception {
+        String body = mockMvc.perform(post("/api/employees/import")
+                        .contentType("application/x-ndjson")
+                        .content(String.join("\n", rows)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return report(body);
+    }
+
+    private List<JsonNode> report(String body) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static String row(String name, String email) {
+        return "{\"name\":\"" + name + "\",\"email\":\"" + email + "\",\"salary\":500000,\"department\":\"IT\",\"gender\":\"Female\"}";
+    }
+}
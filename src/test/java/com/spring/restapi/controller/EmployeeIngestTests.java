@@ -0,0 +1,196 @@
+package com.spring.restapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.restapi.models.EmployeeIngestStatus;
+import com.spring.restapi.models.EmployeeIngestStatus.State;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.EmployeeIngestQueue;
+import com.spring.restapi.service.EmployeeService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /api/employees/ingest against a four-row queue whose writer can be held on a latch, so the
+ * queue fills up deterministically: 429 with Retry-After when a request does not fit, 413 when it
+ * can never fit, tickets reaching COMPLETED, and the flush of queued rows on shutdown.
+ */
+@SpringBootTest(properties = {"employee.ingest.queue-capacity=4", "employee.ingest.batch-size=2"})
+@AutoConfigureMockMvc
+class EmployeeIngestTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeIngestQueue employeeIngestQueue;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @MockitoSpyBean
+    private EmployeeService employeeService;
+
+    private final AtomicInteger nextEmail = new AtomicInteger();
+
+    private CountDownLatch writerReleased;
+
+    private CountDownLatch writerStarted;
+
+    // The writer takes a ticket's first row as soon as it is queued, so it is held on a one-row ticket to leave the queue empty
+    @BeforeEach
+    void holdWriter() {
+        writerReleased = new CountDownLatch(1);
+        writerStarted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writerStarted.countDown();
+            writerReleased.await();
+            return invocation.callRealMethod();
+        }).when(employeeService).upsertEmployees(anyList());
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        writerReleased.countDown();
+        waitUntil(() -> employeeIngestQueue.getQueuedRows() == 0);
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void ticketReachesCompleted() throws Exception {
+        writerReleased.countDown();
+        byte[] body = ingest(2)
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, startsWith("/api/employees/ingest/")))
+                .andExpect(jsonPath("$.state").value("QUEUED"))
+                .andExpect(jsonPath("$.rows").value(2))
+                .andReturn().getResponse().getContentAsByteArray();
+        String ticket = objectMapper.readValue(body, EmployeeIngestStatus.class).ticket();
+
+        waitUntil(() -> ticketStatus(ticket).state() == State.COMPLETED);
+
+        mockMvc.perform(get("/api/employees/ingest/{ticket}", ticket))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.written").value(2))
+                .andExpect(jsonPath("$.results[0].status").value("INSERTED"))
+                .andExpect(jsonPath("$.results[1].status").value("INSERTED"));
+        assertThat(employeeRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void fullQueueIsTooManyRequestsWithRetryAfter() throws Exception {
+        submit(1);
+        assertThat(writerStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        submit(4);
+
+        ingest(1)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(header().string("Error-Info", "ingest queue full"));
+        assertThat(employeeIngestQueue.getQueuedRows()).isEqualTo(4);
+    }
+
+    @Test
+    void requestLargerThanTheQueueIsPayloadTooLarge() throws Exception {
+        ingest(5).andExpect(status().isPayloadTooLarge());
+
+        assertThat(employeeIngestQueue.getQueuedRows()).isZero();
+    }
+
+    @Test
+    void unknownTicketIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/employees/ingest/{ticket}", "no-such-ticket"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DirtiesContext
+    void shutdownFlushesQueuedRows() throws Exception {
+        String writing = submit(1);
+        assertThat(writerStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        String queued = submit(4);
+
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(() -> {
+            try {
+                employeeIngestQueue.shutdown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThatThrownBy(() -> shutdown.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        ingest(1).andExpect(status().isTooManyRequests());
+
+        writerReleased.countDown();
+        shutdown.get(10, TimeUnit.SECONDS);
+
+        assertThat(ticketStatus(writing).state()).isEqualTo(State.COMPLETED);
+        assertThat(ticketStatus(queued).state()).isEqualTo(State.COMPLETED);
+        assertThat(employeeIngestQueue.getQueuedRows()).isZero();
+        assertThat(employeeRepository.count()).isEqualTo(5);
+    }
+
+    private String submit(int rows) throws Exception {
+        byte[] body = ingest(rows)
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsByteArray();
+        return objectMapper.readValue(body, EmployeeIngestStatus.class).ticket();
+    }
+
+    private ResultActions ingest(int rows) throws Exception {
+        List<String> employees = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            int n = nextEmail.incrementAndGet();
+            employees.add("{\"name\":\"Ingest " + n + "\",\"email\":\"ingest" + n + "@example.com\",\"salary\":500000,"
+                    + "\"department\":\"IT\",\"gender\":\"Male\"}");
+        }
+        return mockMvc.perform(post("/api/employees/ingest")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + String.join(",", employees) + "]"));
+    }
+
+    private EmployeeIngestStatus ticketStatus(String ticket) {
+        return employeeIngestQueue.getStatus(ticket).orElseThrow();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10 s").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
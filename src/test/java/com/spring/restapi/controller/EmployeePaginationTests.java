@@ -0,0 +1,122 @@
+package com.spring.restapi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.service.EmployeeService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Keyset pagination with a default limit of 2 and a maximum of 3, on a listing served by SQL, one
+ * served by the bitmap index and one served by the salary index: following nextCursor visits every
+ * row once in id order, the last page has no cursor, and limits are clamped.
+ */
+@SpringBootTest(properties = {"employee.pagination.default-limit=2", "employee.pagination.max-limit=3"})
+@AutoConfigureMockMvc
+class EmployeePaginationTests {
+
+    private static final String[] LISTINGS = {"/api/employees", "/api/employees/department/IT", "/api/employees/salary-greater-than?minSalary=0"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void seed() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            employees.add(new Employee("Page " + i, "page" + i + "@example.com", 100_000.0 * i, "IT", "Female"));
+        }
+        ids = employeeService.saveAllEmployees(employees).stream().map(Employee::getId).toList();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        employeeService.deleteAllEmployees();
+    }
+
+    @Test
+    void followingTheCursorVisitsEveryRowOnceInIdOrder() throws Exception {
+        for (String listing : LISTINGS) {
+            List<Long> seen = new ArrayList<>();
+            List<Integer> sizes = new ArrayList<>();
+            JsonNode page = page(get(listing));
+            while (true) {
+                page.get("employees").forEach(row -> seen.add(row.get("id").asLong()));
+                sizes.add(page.get("size").asInt());
+                if (page.get("nextCursor").isNull()) {
+                    break;
+                }
+                page = page(get(listing).param("after", page.get("nextCursor").asText()));
+            }
+            assertThat(seen).as(listing).isEqualTo(ids);
+            assertThat(sizes).as(listing).containsExactly(2, 2, 1);
+        }
+    }
+
+    @Test
+    void pageThatEndsExactlyAtTheLastRowHasNoCursor() throws Exception {
+        for (String listing : LISTINGS) {
+            JsonNode page = page(get(listing).param("after", String.valueOf(ids.get(1))).param("limit", "3"));
+
+            assertThat(page.get("size").asInt()).as(listing).isEqualTo(3);
+            assertThat(page.get("nextCursor").isNull()).as(listing).isTrue();
+        }
+    }
+
+    @Test
+    void cursorPastTheLastRowIsAnEmptyLastPage() throws Exception {
+        for (String listing : LISTINGS) {
+            JsonNode page = page(get(listing).param("after", String.valueOf(ids.get(4))));
+
+            assertThat(page.get("employees")).as(listing).isEmpty();
+            assertThat(page.get("size").asInt()).as(listing).isZero();
+            assertThat(page.get("nextCursor").isNull()).as(listing).isTrue();
+        }
+    }
+
+    @Test
+    void limitIsClampedToTheMaximumAndDefaultsWhenNotPositive() throws Exception {
+        for (String listing : LISTINGS) {
+            JsonNode clamped = page(get(listing).param("limit", "1000"));
+            assertThat(clamped.get("limit").asInt()).as(listing).isEqualTo(3);
+            assertThat(clamped.get("size").asInt()).as(listing).isEqualTo(3);
+            assertThat(clamped.get("nextCursor").asLong()).as(listing).isEqualTo(ids.get(2));
+
+            for (String limit : new String[] {"0", "-5"}) {
+                JsonNode defaulted = page(get(listing).param("limit", limit));
+                assertThat(defaulted.get("limit").asInt()).as(listing + " limit " + limit).isEqualTo(2);
+                assertThat(defaulted.get("size").asInt()).as(listing + " limit " + limit).isEqualTo(2);
+            }
+        }
+    }
+
+    private JsonNode page(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,91 @@
+package com.spring.restapi.controller;
+
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.EmployeeService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * PATCH /api/employees/{id} answers a body it cannot apply with 400 and leaves the row alone.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmployeePatchValidationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    void seed() {
+        employee = employeeService.saveEmployee(new Employee("Patch", "patch@example.com", 800_000.0, "IT", "Male"));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{}",
+            "{\"email\":\"other@example.com\"}",
+            "{\"name\":\"  \"}",
+            "{\"department\":42}",
+            "{\"salary\":null}",
+            "{\"salary\":-1}",
+            "{\"salary\":\"abc\"}",
+            "{\"salary\":\"NaN\"}",
+            "{\"salary\":\"Infinity\"}",
+            "{\"salary\":true}"})
+    void unusableBodyIsABadRequest(String body) throws Exception {
+        mockMvc.perform(patch("/api/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string("Error-Info", "invalid update"))
+                .andExpect(jsonPath("$.statusCode").value(400));
+
+        assertThat(employeeRepository.findById(employee.getId())).hasValueSatisfying(row -> {
+            assertThat(row.getVersion()).isZero();
+            assertThat(row.getSalary()).isEqualTo(800_000.0);
+        });
+    }
+
+    @Test
+    void salaryMessageMatchesWhatIsAccepted() throws Exception {
+        mockMvc.perform(patch("/api/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"salary\":-1}"))
+                .andExpect(jsonPath("$.message").value("Field 'salary' must be a non-negative number."));
+
+        mockMvc.perform(patch("/api/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"salary\":0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.salary").value(0.0));
+    }
+}
@@ -0,0 +1,129 @@
+package com.spring.restapi.controller;
+
+import com.spring.restapi.EmployeeFixtures;
+import com.spring.restapi.cache.EmployeeCache;
+import com.spring.restapi.index.EmployeeIndexes;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeePurgeStatus;
+import com.spring.restapi.models.EmployeePurgeStatus.State;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.EmployeePurgeJob;
+import com.spring.restapi.service.EmployeeService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /api/employees/purge and DELETE /api/employees/all: both must leave the table, the employee
+ * cache and the in-memory indexes empty; the purge does it three rows per batch.
+ */
+@SpringBootTest(properties = "employee.purge.batch-size=3")
+@AutoConfigureMockMvc
+class EmployeePurgeTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeePurgeJob employeePurgeJob;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private EmployeeIndexes employeeIndexes;
+
+    @BeforeEach
+    void seed() {
+        for (Employee employee : employeeService.saveAllEmployees(EmployeeFixtures.employees("purge", 7))) {
+            employeeService.getEmployeeById(employee.getId());
+        }
+        assertThat(employeeCache.getStatistics().get("size")).isEqualTo(7L);
+        assertThat(employeeIndexes.size()).isEqualTo(7);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void purgeDeletesInBatchesAndReportsProgress() throws Exception {
+        String location = mockMvc.perform(post("/api/employees/purge"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, startsWith("/api/employees/purge/")))
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        String jobId = location.substring(location.lastIndexOf('/') + 1);
+
+        EmployeePurgeStatus finished = awaitFinished(jobId);
+
+        assertThat(finished.state()).isEqualTo(State.COMPLETED);
+        assertThat(finished.deleted()).isEqualTo(7);
+        assertThat(finished.batches()).isEqualTo(3);
+        mockMvc.perform(get("/api/employees/purge/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.deleted").value(7))
+                .andExpect(jsonPath("$.finishedAt").exists());
+        assertEverythingEmpty();
+    }
+
+    @Test
+    void unknownPurgeJobIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/employees/purge/{jobId}", "no-such-job"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteAllEmptiesTheCacheAndIndexes() throws Exception {
+        mockMvc.perform(delete("/api/employees/all"))
+                .andExpect(status().isNoContent());
+
+        assertEverythingEmpty();
+    }
+
+    private void assertEverythingEmpty() throws Exception {
+        assertThat(employeeRepository.count()).isZero();
+        assertThat(employeeCache.getStatistics().get("size")).isEqualTo(0L);
+        assertThat(employeeIndexes.size()).isZero();
+        mockMvc.perform(get("/api/employees/department/{department}/count", "HR"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0"));
+    }
+
+    private EmployeePurgeStatus awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        EmployeePurgeStatus status = employeePurgeJob.getStatus(jobId).orElseThrow();
+        while (status.state() == State.RUNNING) {
+            assertThat(System.nanoTime()).as("purge not finished within 10 s").isLessThan(deadline);
+            Thread.sleep(20);
+            status = employeePurgeJob.getStatus(jobId).orElseThrow();
+        }
+        return status;
+    }
+}
@@ -0,0 +1,100 @@
+package com.spring.restapi.controller;
+
+import com.spring.restapi.repository.EmployeeRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /api/employees/upsert: per-row INSERTED/UPDATED/UNCHANGED in request order, a replay that
+ * changes nothing, and an email repeated within one request.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmployeeUpsertTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void reportsInsertedUpdatedAndUnchangedRows() throws Exception {
+        upsert(row("Ada", "ada@example.com", 500_000, "IT"), row("Bob", "bob@example.com", 400_000, "HR"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("INSERTED"))
+                .andExpect(jsonPath("$[1].status").value("INSERTED"));
+        long adaId = employeeRepository.findByEmail("ada@example.com").orElseThrow().getId();
+
+        upsert(row("Ada", "ada@example.com", 550_000, "IT"),
+               row("Bob", "bob@example.com", 400_000, "HR"),
+               row("Cy", "cy@example.com", 300_000, "Finance"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].email").value("ada@example.com"))
+                .andExpect(jsonPath("$[0].id").value(adaId))
+                .andExpect(jsonPath("$[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$[1].status").value("UNCHANGED"))
+                .andExpect(jsonPath("$[2].status").value("INSERTED"));
+
+        assertThat(employeeRepository.count()).isEqualTo(3);
+        assertThat(employeeRepository.findById(adaId).orElseThrow().getSalary()).isEqualTo(550_000.0);
+        assertThat(employeeRepository.findById(adaId).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void replayingTheSamePayloadChangesNothing() throws Exception {
+        String[] rows = {row("Ada", "ada@example.com", 500_000, "IT"), row("Bob", "bob@example.com", 400_000, "HR")};
+        upsert(rows).andExpect(status().isOk());
+
+        upsert(rows)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("UNCHANGED"))
+                .andExpect(jsonPath("$[1].status").value("UNCHANGED"));
+
+        assertThat(employeeRepository.count()).isEqualTo(2);
+        assertThat(employeeRepository.findByEmail("ada@example.com").orElseThrow().getVersion()).isZero();
+    }
+
+    @Test
+    void laterOccurrenceOfARepeatedEmailWins() throws Exception {
+        upsert(row("Ada", "ada@example.com", 500_000, "IT"),
+               row("Ada", "ada@example.com", 500_000, "IT"),
+               row("Ada Lovelace", "ada@example.com", 650_000, "Finance"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].status").value("INSERTED"))
+                .andExpect(jsonPath("$[1].status").value("UNCHANGED"))
+                .andExpect(jsonPath("$[2].status").value("UPDATED"));
+
+        assertThat(employeeRepository.count()).isEqualTo(1);
+        assertThat(employeeRepository.findByEmail("ada@example.com").orElseThrow().getName()).isEqualTo("Ada Lovelace");
+    }
+
+    private ResultActions upsert(String... rows) throws Exception {
+        return mockMvc.perform(post("/api/employees/upsert")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + String.join(",", rows) + "]"));
+    }
+
+    private static String row(String name, String email, double salary, String department) {
+        return "{\"name\":\"" + name + "\",\"email\":\"" + email + "\",\"salary\":" + salary
+                + ",\"department\":\"" + department + "\",\"gender\":\"Female\"}";
+    }
+}
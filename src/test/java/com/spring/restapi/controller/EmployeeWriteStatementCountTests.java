@@ -0,0 +1,116 @@
+package com.spring.restapi.controller;
+
+import com.spring.restapi.RecordingStatementInspector;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.EmployeeService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the SQL statements each single-employee write request sends. DELETE, PUT and PATCH must
+ * each cost one statement on success; only a failed conditional write may look the row up again.
+ */
+@SpringBootTest(properties = RecordingStatementInspector.PROPERTY)
+@AutoConfigureMockMvc
+class EmployeeWriteStatementCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    void seed() {
+        employee = employeeService.saveEmployee(new Employee("Statement Count", "statements@example.com", 600_000.0, "IT", "Female"));
+        RecordingStatementInspector.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deleteIsOneStatement() throws Exception {
+        mockMvc.perform(delete("/api/employees/{id}", employee.getId()))
+                .andExpect(status().isOk());
+
+        assertThat(RecordingStatementInspector.statements()).singleElement()
+                .satisfies(sql -> assertThat(sql).startsWithIgnoringCase("delete"));
+        assertThat(employeeRepository.existsById(employee.getId())).isFalse();
+    }
+
+    @Test
+    void deleteOfMissingEmployeeIsNotFound() throws Exception {
+        mockMvc.perform(delete("/api/employees/{id}", employee.getId() + 1_000))
+                .andExpect(status().isNotFound());
+
+        assertThat(RecordingStatementInspector.statements()).hasSize(1);
+    }
+
+    @Test
+    void putIsOneStatement() throws Exception {
+        mockMvc.perform(put("/api/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed\",\"email\":\"statements@example.com\",\"salary\":900000,"
+                                + "\"department\":\"HR\",\"gender\":\"Female\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.name").value("Renamed"))
+                .andExpect(jsonPath("$.email").value("statements@example.com"));
+
+        assertThat(RecordingStatementInspector.statements()).hasSize(1);
+        Employee stored = employeeRepository.findById(employee.getId()).orElseThrow();
+        assertThat(stored.getSalary()).isEqualTo(900_000.0);
+        assertThat(stored.getTax()).isPositive();
+    }
+
+    @Test
+    void patchIsOneStatementAndWritesOnlyTheChangedColumns() throws Exception {
+        mockMvc.perform(patch("/api/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"department\":\"Finance\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.department").value("Finance"))
+                .andExpect(jsonPath("$.name").value("Statement Count"));
+
+        assertThat(RecordingStatementInspector.statements()).singleElement()
+                .satisfies(sql -> assertThat(sql.toLowerCase())
+                        .contains("department =")
+                        .doesNotContain("name =", "salary =", "tax ="));
+    }
+
+    @Test
+    void patchWithStaleVersionIsRejected() throws Exception {
+        mockMvc.perform(patch("/api/employees/{id}", employee.getId())
+                        .header("If-Match", "\"7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"salary\":700000}"))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(RecordingStatementInspector.statements()).hasSize(2);
+        assertThat(employeeRepository.findById(employee.getId()).orElseThrow().getSalary()).isEqualTo(600_000.0);
+    }
+}
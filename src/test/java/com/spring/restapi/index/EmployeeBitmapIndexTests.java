@@ -0,0 +1,66 @@
+package com.spring.restapi.index;
+
+import com.spring.restapi.models.EmployeeSummary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeBitmapIndexTests {
+
+    private final EmployeeBitmapIndex index = new EmployeeBitmapIndex();
+
+    @BeforeEach
+    void seed() {
+        index.add(employee(1, "IT", "Male"));
+        index.add(employee(2, "HR", "Male"));
+        index.add(employee(3, "IT", "Female"));
+        index.add(employee(4, "IT", "Male"));
+        index.add(employee(7, "IT", "Male"));
+        index.add(employee(9, "IT", "Male"));
+        index.add(employee(10, "HR", "Female"));
+    }
+
+    @Test
+    void countsSingleColumnsAndTheirIntersection() {
+        assertThat(index.count("IT", null)).isEqualTo(5);
+        assertThat(index.count(null, "Female")).isEqualTo(2);
+        assertThat(index.count("IT", "Male")).isEqualTo(4);
+        assertThat(index.count("HR", "Female")).isEqualTo(1);
+        assertThat(index.count("Finance", "Male")).isZero();
+    }
+
+    @Test
+    void pagesOfAnIntersectionFollowTheCursor() {
+        assertThat(index.page("IT", "Male", 0, 2)).containsExactly(1L, 4L);
+        assertThat(index.page("IT", "Male", 4, 2)).containsExactly(7L, 9L);
+        assertThat(index.page("IT", "Male", 9, 2)).isEmpty();
+    }
+
+    @Test
+    void cursorBetweenSetBitsStartsAtTheNextOne() {
+        assertThat(index.page("IT", null, 5, 10)).containsExactly(7L, 9L);
+        assertThat(index.page(null, "Female", 3, 10)).containsExactly(10L);
+    }
+
+    @Test
+    void unknownValuesMatchNothing() {
+        assertThat(index.page("Finance", null, 0, 10)).isEmpty();
+        assertThat(index.page("IT", "Other", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void removeClearsTheBitInBothColumns() {
+        index.remove(employee(4, "IT", "Male"));
+        index.remove(employee(10, "HR", "Female"));
+
+        assertThat(index.page("IT", "Male", 0, 10)).containsExactly(1L, 7L, 9L);
+        assertThat(index.count(null, "Female")).isEqualTo(1);
+        assertThat(index.count("HR", "Female")).isZero();
+    }
+
+    private static EmployeeSummary employee(long id, String department, String gender) {
+        return new EmployeeSummary(id, "Bitmap " + id, "bitmap" + id + "@example.com", 500_000, department, gender, 0);
+    }
+}
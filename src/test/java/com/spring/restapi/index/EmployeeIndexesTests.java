@@ -0,0 +1,122 @@
+package com.spring.restapi.index;
+
+import com.spring.restapi.index.EmployeeNameIndex.Mode;
+import com.spring.restapi.index.EmployeeSalaryIndex.Order;
+import com.spring.restapi.models.EmployeeSummary;
+import com.spring.restapi.repository.EmployeeRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Without an active transaction EmployeeIndexes applies every change immediately.
+ */
+class EmployeeIndexesTests {
+
+    private final EmployeeBitmapIndex bitmapIndex = new EmployeeBitmapIndex();
+    private final EmployeeSalaryIndex salaryIndex = new EmployeeSalaryIndex();
+    private final EmployeeNameIndex nameIndex = new EmployeeNameIndex();
+    private final EmployeeIndexes indexes = new EmployeeIndexes(List.of(bitmapIndex, salaryIndex, nameIndex));
+
+    @Test
+    void updateMovesTheEmployeeBetweenDepartments() {
+        indexes.put(employee(1, "Ana Lopez", 300_000, "IT", 0));
+        indexes.put(employee(2, "Bob Stone", 200_000, "HR", 0));
+
+        indexes.put(employee(1, "Ana Cruz", 350_000, "HR", 1));
+
+        assertThat(bitmapIndex.count("IT", null)).isZero();
+        assertThat(bitmapIndex.page("HR", null, 0, 10)).containsExactly(1L, 2L);
+        assertThat(salaryIndex.range(null, null, "IT", Order.ASC, 10)).isEmpty();
+        assertThat(salaryIndex.top("HR", 10)).containsExactly(1L, 2L);
+        assertThat(salaryIndex.range(300_000.0, 300_000.0, null, Order.ASC, 10)).isEmpty();
+        assertThat(nameIndex.search("lopez", Mode.CONTAINS, 10)).isEmpty();
+        assertThat(nameIndex.search("cruz", Mode.CONTAINS, 10)).containsExactly(1L);
+        assertThat(indexes.get(1)).hasValueSatisfying(row -> assertThat(row.department()).isEqualTo("HR"));
+        assertThat(indexes.size()).isEqualTo(2);
+    }
+
+    @Test
+    void olderVersionArrivingLateIsIgnored() {
+        indexes.put(employee(1, "Ana Lopez", 300_000, "HR", 2));
+
+        indexes.put(employee(1, "Ana Lopez", 300_000, "IT", 1));
+
+        assertThat(bitmapIndex.count("HR", null)).isEqualTo(1);
+        assertThat(bitmapIndex.count("IT", null)).isZero();
+        assertThat(indexes.get(1)).hasValueSatisfying(row -> assertThat(row.version()).isEqualTo(2));
+    }
+
+    @Test
+    void removeAndClearEmptyEveryIndex() {
+        indexes.put(employee(1, "Ana Lopez", 300_000, "IT", 0));
+        indexes.put(employee(2, "Bob Stone", 200_000, "HR", 0));
+
+        indexes.remove(1L);
+
+        assertThat(indexes.resolve(List.of(1L, 2L))).extracting(EmployeeSummary::id).containsExactly(2L);
+        assertThat(bitmapIndex.count("IT", null)).isZero();
+        assertThat(nameIndex.search("ana", Mode.CONTAINS, 10)).isEmpty();
+
+        indexes.clear();
+
+        assertThat(indexes.size()).isZero();
+        assertThat(salaryIndex.top(null, 10)).isEmpty();
+        assertThat(nameIndex.getTrigramCount()).isZero();
+    }
+
+    @Test
+    void updateArrivingAfterTheDeleteDoesNotBringTheRowBack() {
+        indexes.put(employee(1, "Ana Lopez", 300_000, "IT", 0));
+
+        // The update committed first, but its callback runs after the delete's
+        indexes.remove(1L);
+        indexes.put(employee(1, "Ana Lopez", 310_000, "HR", 1));
+
+        assertThat(indexes.get(1)).isEmpty();
+        assertThat(indexes.size()).isZero();
+        assertThat(bitmapIndex.count("HR", null)).isZero();
+        assertThat(salaryIndex.top(null, 10)).isEmpty();
+        assertThat(nameIndex.search("ana", Mode.CONTAINS, 10)).isEmpty();
+    }
+
+    @Test
+    void updateArrivingAfterAClearDoesNotBringTheRowBack() {
+        indexes.put(employee(1, "Ana Lopez", 300_000, "IT", 0));
+        indexes.put(employee(2, "Bob Stone", 200_000, "HR", 0));
+
+        indexes.clear();
+        indexes.put(employee(2, "Bob Stone", 210_000, "HR", 1));
+        indexes.put(employee(3, "Cy Young", 250_000, "IT", 0));
+
+        assertThat(indexes.get(2)).isEmpty();
+        assertThat(indexes.resolve(List.of(1L, 2L, 3L))).extracting(EmployeeSummary::id).containsExactly(3L);
+    }
+
+    @Test
+    void loadReadmitsADeletedIdTheTableHolds() {
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(employee(1, "Ana Lopez", 300_000, "IT", 0)));
+        ReflectionTestUtils.setField(indexes, "employeeRepository", employeeRepository);
+        indexes.remove(1L);
+
+        indexes.load();
+        indexes.put(employee(1, "Ana Lopez", 320_000, "IT", 1));
+
+        assertThat(indexes.get(1)).hasValueSatisfying(row -> assertThat(row.salary()).isEqualTo(320_000));
+    }
+
+    private static EmployeeSummary employee(long id, String name, double salary, String department, long version) {
+        return new EmployeeSummary(id, name, "indexes" + id + "@example.com", salary, department, "Female", version);
+    }
+}
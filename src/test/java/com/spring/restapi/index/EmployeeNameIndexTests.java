@@ -0,0 +1,75 @@
+package com.spring.restapi.index;
+
+import com.spring.restapi.index.EmployeeNameIndex.Mode;
+import com.spring.restapi.models.EmployeeSummary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeNameIndexTests {
+
+    private final EmployeeNameIndex index = new EmployeeNameIndex();
+
+    @BeforeEach
+    void seed() {
+        index.add(employee(1, "Ana"));
+        index.add(employee(2, "Anabel Cruz"));
+        index.add(employee(3, "Maria Ana"));
+        index.add(employee(4, "Diana Ross"));
+        index.add(employee(5, "Ana Lopez"));
+        index.add(employee(6, "Bob Stone"));
+    }
+
+    @Test
+    void containsRanksExactThenNamePrefixThenWordPrefixThenSubstring() {
+        // Within the name-prefix rank the shorter "ana lopez" comes before "anabel cruz"
+        assertThat(index.search("ana", Mode.CONTAINS, 10)).containsExactly(1L, 5L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void prefixModeOnlyMatchesTheStartOfAWord() {
+        assertThat(index.search("ana", Mode.PREFIX, 10)).containsExactly(1L, 5L, 2L, 3L);
+        assertThat(index.search("ross", Mode.PREFIX, 10)).containsExactly(4L);
+        assertThat(index.search("oss", Mode.PREFIX, 10)).isEmpty();
+        assertThat(index.search("oss", Mode.CONTAINS, 10)).containsExactly(4L);
+    }
+
+    @Test
+    void limitKeepsTheBestRankedMatches() {
+        assertThat(index.search("ana", Mode.CONTAINS, 2)).containsExactly(1L, 5L);
+    }
+
+    @Test
+    void equalRankAndLengthFallBackToId() {
+        index.add(employee(9, "Ana Lopes"));
+        index.add(employee(7, "Ana Lopez"));
+
+        assertThat(index.search("ana lope", Mode.PREFIX, 10)).containsExactly(5L, 7L, 9L);
+    }
+
+    @Test
+    void queriesAreCaseAndWhitespaceInsensitive() {
+        assertThat(index.search("  ANA   lopez ", Mode.CONTAINS, 10)).containsExactly(5L);
+    }
+
+    @Test
+    void queriesShorterThanATrigramCheckEveryName() {
+        assertThat(index.search("b", Mode.PREFIX, 10)).containsExactly(6L);
+        assertThat(index.search("zz", Mode.CONTAINS, 10)).isEmpty();
+    }
+
+    @Test
+    void removedNamesNoLongerMatch() {
+        index.remove(employee(1, "Ana"));
+        index.remove(employee(5, "Ana Lopez"));
+
+        assertThat(index.search("ana", Mode.CONTAINS, 10)).containsExactly(2L, 3L, 4L);
+        assertThat(index.search("lopez", Mode.CONTAINS, 10)).isEmpty();
+    }
+
+    private static EmployeeSummary employee(long id, String name) {
+        return new EmployeeSummary(id, name, "name" + id + "@example.com", 500_000, "IT", "Female", 0);
+    }
+}
@@ -0,0 +1,69 @@
+package com.spring.restapi.index;
+
+import com.spring.restapi.index.EmployeeSalaryIndex.Order;
+import com.spring.restapi.models.EmployeeSummary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeSalaryIndexTests {
+
+    private final EmployeeSalaryIndex index = new EmployeeSalaryIndex();
+
+    @BeforeEach
+    void seed() {
+        index.add(employee(1, 100_000, "IT"));
+        index.add(employee(2, 200_000, "IT"));
+        index.add(employee(3, 200_000, "HR"));
+        index.add(employee(4, 300_000, "HR"));
+        index.add(employee(5, 400_000, "IT"));
+    }
+
+    @Test
+    void boundsAreInclusive() {
+        assertThat(index.range(200_000.0, 300_000.0, null, Order.ASC, 10)).containsExactly(2L, 3L, 4L);
+        assertThat(index.range(200_000.0, 200_000.0, null, Order.ASC, 10)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void salariesJustOutsideTheBoundsAreExcluded() {
+        assertThat(index.range(200_000.01, 299_999.99, null, Order.ASC, 10)).isEmpty();
+        assertThat(index.range(100_000.01, 399_999.99, null, Order.ASC, 10)).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void openEndedAndEmptyRanges() {
+        assertThat(index.range(300_000.0, null, null, Order.ASC, 10)).containsExactly(4L, 5L);
+        assertThat(index.range(null, 200_000.0, null, Order.ASC, 10)).containsExactly(1L, 2L, 3L);
+        assertThat(index.range(300_000.0, 200_000.0, null, Order.ASC, 10)).isEmpty();
+    }
+
+    @Test
+    void descendingOrderBreaksSalaryTiesByDescendingId() {
+        assertThat(index.range(null, null, null, Order.DESC, 10)).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(index.range(null, null, null, Order.ASC, 10)).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(index.range(null, null, null, Order.DESC, 2)).containsExactly(5L, 4L);
+    }
+
+    @Test
+    void departmentRangesAndTopEarners() {
+        assertThat(index.range(150_000.0, null, "IT", Order.ASC, 10)).containsExactly(2L, 5L);
+        assertThat(index.top("HR", 1)).containsExactly(4L);
+        assertThat(index.top(null, 3)).containsExactly(5L, 4L, 3L);
+        assertThat(index.range(null, null, "Finance", Order.ASC, 10)).isEmpty();
+    }
+
+    @Test
+    void removeDropsTheEntryFromEveryList() {
+        index.remove(employee(5, 400_000, "IT"));
+
+        assertThat(index.top(null, 1)).containsExactly(4L);
+        assertThat(index.top("IT", 1)).containsExactly(2L);
+    }
+
+    private static EmployeeSummary employee(long id, double salary, String department) {
+        return new EmployeeSummary(id, "Salary " + id, "salary" + id + "@example.com", salary, department, "Male", 0);
+    }
+}
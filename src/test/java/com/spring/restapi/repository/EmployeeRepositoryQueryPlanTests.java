@@ -0,0 +1,201 @@
+package com.spring.restapi.repository;
+
+import com.spring.restapi.RecordingStatementInspector;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every query method declared on {@link EmployeeRepository}, captures the SQL Hibernate sends
+ * and checks H2's {@code EXPLAIN} plan for it against a seeded, analyzed table. The plan fails if it
+ * is a table scan, or if the index it uses does not constrain every column in the WHERE clause;
+ * the latter catches keyset queries quietly walking the primary key ({@code id > ?}) and filtering
+ * row by row. A new finder therefore cannot ship without a matching index. Queries that have to
+ * read every row by design are listed in {@link #FULL_SCAN_BY_DESIGN}. The SQL that
+ * {@link ReactiveEmployeeRepository} sends through R2DBC is explained the same way.
+ */
+@SpringBootTest(properties = RecordingStatementInspector.PROPERTY)
+class EmployeeRepositoryQueryPlanTests {
+
+    private static final int SEED_ROWS = 5_000;
+
+    // Index name and condition from H2's plan comment, e.g. /* PUBLIC.IDX_EMPLOYEES_GENDER_ID: GENDER = ?1 AND ID > ?2 */
+    private static final Pattern INDEX_CONDITION = Pattern.compile("/\\* PUBLIC\\.(\\w+)(?:: (.*?))?\\s*\\*/", Pattern.DOTALL);
+    private static final Pattern COLUMN = Pattern.compile("\"(\\w+)\"\\.\"(\\w+)\"");
+    private static final Pattern NAMED_PARAMETER = Pattern.compile(":\\w+");
+
+    private static final Map<String, String> REACTIVE_QUERIES = Map.of(
+            "findById", ReactiveEmployeeRepository.FIND_BY_ID,
+            "streamAll", ReactiveEmployeeRepository.STREAM_ALL,
+            "streamByDepartment", ReactiveEmployeeRepository.STREAM_BY_DEPARTMENT,
+            "streamByGender", ReactiveEmployeeRepository.STREAM_BY_GENDER,
+            "streamBySalaryBetween", ReactiveEmployeeRepository.STREAM_BY_SALARY_BETWEEN);
+
+    // Whole-table aggregates compute one row per group over every employee; the payroll re-rating job
+    // walks the table in id order looking for rows under an old tax rule version
+    private static final Set<String> FULL_SCAN_BY_DESIGN = Set.of(
+            "aggregateByDepartment", "aggregateByGender", "aggregateByDepartmentAndGender", "findStalePayroll");
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Plans depend on table statistics, so give H2 a realistic spread of values before explaining
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into employees (id, name, email, salary, department, gender, version) "
+                + "select x, 'Employee ' || x, 'plan' || x || '@example.com', mod(x * 7919, 2000000), "
+                + "case mod(x, 3) when 0 then 'IT' when 1 then 'HR' else 'Finance' end, "
+                + "case mod(x, 2) when 0 then 'Male' else 'Female' end, 0 "
+                + "from system_range(1, " + SEED_ROWS + ")");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseAnIndex() {
+        return Arrays.stream(EmployeeRepository.class.getDeclaredMethods())
+                .filter(method -> !method.isSynthetic() && !method.isAnnotationPresent(Modifying.class))
+                .filter(method -> !FULL_SCAN_BY_DESIGN.contains(method.getName()))
+                .sorted(Comparator.comparing(Method::getName))
+                .map(method -> DynamicTest.dynamicTest(method.getName(), () -> assertIndexed(method)));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> reactiveQueriesUseAnIndex() {
+        return REACTIVE_QUERIES.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(query -> DynamicTest.dynamicTest("reactive " + query.getKey(),
+                        () -> assertIndexed(query.getKey(), NAMED_PARAMETER.matcher(query.getValue()).replaceAll("?"))));
+    }
+
+    private void assertIndexed(Method method) {
+        List<String> statements = capture(method);
+        assertThat(statements).as("SQL issued by %s", method.getName()).isNotEmpty();
+        for (String sql : statements) {
+            assertIndexed(method.getName(), sql);
+        }
+    }
+
+    private void assertIndexed(String name, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertThat(plan)
+                .as("plan of %s%n%s", name, plan)
+                .doesNotContain("tableScan");
+        assertThat(indexedColumns(plan))
+                .as("columns constrained by the index in the plan of %s%n%s", name, plan)
+                .containsAll(filteredColumns(plan));
+    }
+
+    private Set<String> indexedColumns(String plan) {
+        Set<String> columns = new HashSet<>();
+        Matcher index = INDEX_CONDITION.matcher(plan);
+        while (index.find()) {
+            if (index.group(2) != null) {
+                for (String token : index.group(2).split("[^A-Z_]+")) {
+                    columns.add(token);
+                }
+            }
+        }
+        return columns;
+    }
+
+    // Columns referenced after WHERE, apart from the keyset cursor on ID
+    private Set<String> filteredColumns(String plan) {
+        Set<String> columns = new HashSet<>();
+        int where = plan.indexOf("WHERE");
+        if (where < 0) {
+            return columns;
+        }
+        int end = plan.indexOf("ORDER BY", where);
+        Matcher column = COLUMN.matcher(plan.substring(where, end < 0 ? plan.length() : end));
+        while (column.find()) {
+            if (!column.group(2).equals("ID")) {
+                columns.add(column.group(2));
+            }
+        }
+        return columns;
+    }
+
+    private List<String> capture(Method method) {
+        return transactionTemplate.execute(status -> {
+            RecordingStatementInspector.clear();
+            try {
+                Object result = method.invoke(employeeRepository, arguments(method));
+                if (result instanceof Stream<?> stream) {
+                    try (stream) {
+                        stream.forEach(row -> { });
+                    }
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not invoke " + method.getName(), e);
+            }
+            List<String> selects = new ArrayList<>();
+            for (String sql : RecordingStatementInspector.statements()) {
+                if (sql.trim().toLowerCase().startsWith("select")) {
+                    selects.add(sql);
+                }
+            }
+            return selects;
+        });
+    }
+
+    // Placeholder arguments; only the shape of the query matters for the plan
+    private Object[] arguments(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Class<?> type = types[i];
+            if (type == String.class) {
+                args[i] = "IT";
+            } else if (type == Long.class || type == long.class) {
+                args[i] = 0L;
+            } else if (type == Double.class || type == double.class) {
+                // Near the top of the salary range, so range predicates are selective
+                args[i] = 1_900_000.0;
+            } else if (type == Integer.class || type == int.class) {
+                args[i] = 1;
+            } else if (type == Limit.class) {
+                args[i] = Limit.of(10);
+            } else if (type == Collection.class) {
+                args[i] = List.of("plan1@example.com", "plan2@example.com");
+            } else {
+                throw new IllegalArgumentException("No placeholder for parameter type " + type.getName()
+                        + " of " + method.getName() + "; add one to " + getClass().getSimpleName());
+            }
+        }
+        return args;
+    }
+}
@@ -0,0 +1,149 @@
+package com.spring.restapi.snapshot;
+
+import com.spring.restapi.index.EmployeeBitmapIndex;
+import com.spring.restapi.index.EmployeeIndexes;
+import com.spring.restapi.models.Employee;
+import com.spring.restapi.models.EmployeeSnapshotInfo;
+import com.spring.restapi.repository.EmployeeRepository;
+import com.spring.restapi.service.EmployeeService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Writes a snapshot, empties the table and restores it through both the buffered and the
+ * memory-mapped reader: every column comes back, the id sequence moves past the restored ids and
+ * the in-memory indexes load the restored rows. A damaged file is refused and leaves the table empty.
+ */
+@SpringBootTest
+class EmployeeSnapshotStoreTests {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void snapshotFile(DynamicPropertyRegistry registry) {
+        registry.add("employee.snapshot.file", () -> snapshotFile().toString());
+    }
+
+    @Autowired
+    private EmployeeSnapshotStore snapshotStore;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeIndexes employeeIndexes;
+
+    @Autowired
+    private EmployeeBitmapIndex bitmapIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        employeeService.saveAllEmployees(List.of(
+                new Employee("Ada", "ada@example.com", 500_000.0, "IT", "Female"),
+                new Employee("Bob", "bob@example.com", 400_000.0, "HR", "Male"),
+                new Employee("Zoë Ñúñez", "zoe@example.com", 0.0, "IT", "Female")));
+        // Payroll columns left null, as rows written before deductions existed have them
+        jdbcTemplate.update("insert into employees (id, name, email, salary, department, gender, version) "
+                + "values (next value for employee_seq, 'Cy', 'cy@example.com', 300000, 'Finance', 'Male', 4)");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        employeeService.deleteAllEmployees();
+    }
+
+    @ParameterizedTest(name = "memory-mapped: {0}")
+    @ValueSource(booleans = {false, true})
+    void restoreBringsBackEveryColumnTheSequenceAndTheIndexes(boolean memoryMapped) throws IOException {
+        List<Map<String, Object>> before = rows();
+        EmployeeSnapshotInfo written = snapshotStore.snapshot();
+        assertThat(written.rows()).isEqualTo(4);
+
+        employeeService.deleteAllEmployees();
+        assertThat(employeeIndexes.size()).isZero();
+
+        EmployeeSnapshotInfo restored = snapshotStore.restore(memoryMapped).orElseThrow();
+        // At startup EmployeeIndexes loads after the restore; here it is asked to
+        employeeIndexes.load();
+
+        assertThat(restored.rows()).isEqualTo(4);
+        assertThat(restored.bytes()).isEqualTo(written.bytes());
+        assertThat(rows()).isEqualTo(before);
+
+        long maxId = jdbcTemplate.queryForObject("select max(id) from employees", Long.class);
+        assertThat(jdbcTemplate.queryForObject("select next value for employee_seq", Long.class)).isGreaterThan(maxId);
+
+        assertThat(employeeIndexes.size()).isEqualTo(4);
+        assertThat(bitmapIndex.count("IT", "Female")).isEqualTo(2);
+        assertThat(employeeIndexes.get(maxId)).hasValueSatisfying(row -> {
+            assertThat(row.name()).isEqualTo("Cy");
+            assertThat(row.version()).isEqualTo(4);
+        });
+    }
+
+    @ParameterizedTest(name = "memory-mapped: {0}")
+    @ValueSource(booleans = {false, true})
+    void truncatedSnapshotIsRefused(boolean memoryMapped) throws IOException {
+        snapshotStore.snapshot();
+        try (FileChannel channel = FileChannel.open(snapshotFile(), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        employeeService.deleteAllEmployees();
+
+        assertThatThrownBy(() -> snapshotStore.restore(memoryMapped))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("truncated");
+        assertThat(employeeRepository.count()).isZero();
+    }
+
+    @ParameterizedTest(name = "memory-mapped: {0}")
+    @ValueSource(booleans = {false, true})
+    void fileWithoutTheSnapshotHeaderIsRefused(boolean memoryMapped) throws IOException {
+        snapshotStore.snapshot();
+        try (FileChannel channel = FileChannel.open(snapshotFile(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap("name,email".getBytes()), 0);
+        }
+        employeeService.deleteAllEmployees();
+
+        assertThatThrownBy(() -> snapshotStore.restore(memoryMapped))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Not an employee snapshot");
+        assertThat(employeeRepository.count()).isZero();
+    }
+
+    private List<Map<String, Object>> rows() {
+        return jdbcTemplate.queryForList("select id, version, salary, bonus, pf, tax, tax_rule_version, "
+                + "name, email, department, gender from employees order by id");
+    }
+
+    private static Path snapshotFile() {
+        return directory.resolve("employees.snapshot");
+    }
+}